@@ -20,53 +20,9 @@ package org.edgexfoundry.support.notifications;
 
 public class GlobalVariables {
 
-  private static final GlobalVariables INSTANCE = new GlobalVariables();
-
   public static final String RECORD_CREATION_FIELD = "created";
 
-  private long theLatestNormalNotificationCreated = 0L;
-  private long theLatestNormalSchedulerProcessed = 0L;
-
-  private long theLatestNormalTransmissionFailed = 0L;
-  private long theLatestNormalResendProcessed = 0L;
-
   private GlobalVariables() {
   }
 
-  public static GlobalVariables getInstance() {
-    return INSTANCE;
-  }
-
-  public long getTheLatestNormalNotificationCreated() {
-    return theLatestNormalNotificationCreated;
-  }
-
-  public void setTheLatestNormalNotificationCreated(long theLatestNormalNotificationCreated) {
-    this.theLatestNormalNotificationCreated = theLatestNormalNotificationCreated;
-  }
-
-  public long getTheLatestNormalSchedulerProcessed() {
-    return theLatestNormalSchedulerProcessed;
-  }
-
-  public void setTheLatestNormalSchedulerProcessed(long theLatestNormalSchedulerProcessed) {
-    this.theLatestNormalSchedulerProcessed = theLatestNormalSchedulerProcessed;
-  }
-
-  public long getTheLatestNormalTransmissionFailed() {
-    return theLatestNormalTransmissionFailed;
-  }
-
-  public void setTheLatestNormalTransmissionFailed(long theLatestNormalTransmissionFailed) {
-    this.theLatestNormalTransmissionFailed = theLatestNormalTransmissionFailed;
-  }
-
-  public long getTheLatestNormalResendProcessed() {
-    return theLatestNormalResendProcessed;
-  }
-
-  public void setTheLatestNormalResendProcessed(long theLatestNormalResendProcessed) {
-    this.theLatestNormalResendProcessed = theLatestNormalResendProcessed;
-  }
-
 }
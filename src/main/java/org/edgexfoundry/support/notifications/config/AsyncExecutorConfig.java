@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import java.util.concurrent.Executor;
+
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.Pool;
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.RejectionPolicy;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+/**
+ * Dedicated bounded executors for each asynchronous stage, so that a slow channel or a burst of
+ * notifications in one stage cannot starve the others. @Async methods select their stage by bean
+ * name; methods without a qualifier run on the general executor.
+ */
+@Configuration
+public class AsyncExecutorConfig implements AsyncConfigurer {
+
+  public static final String GENERAL_EXECUTOR = "generalExecutor";
+  public static final String DISTRIBUTION_EXECUTOR = "distributionExecutor";
+  public static final String REST_SEND_EXECUTOR = "restSendExecutor";
+  public static final String EMAIL_SEND_EXECUTOR = "emailSendExecutor";
+  public static final String ESCALATION_EXECUTOR = "escalationExecutor";
+  public static final String CLEANUP_EXECUTOR = "cleanupExecutor";
+  public static final String MAIL_DELIVERY_EXECUTOR = "mailDeliveryExecutor";
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private ExecutorProperties executorProperties;
+
+  @Bean(name = GENERAL_EXECUTOR)
+  public BoundedTaskExecutor generalExecutor() {
+    return new BoundedTaskExecutor("general", executorProperties.getGeneral());
+  }
+
+  @Bean(name = DISTRIBUTION_EXECUTOR)
+  public BoundedTaskExecutor distributionExecutor() {
+    return new BoundedTaskExecutor("distribution", executorProperties.getDistribution());
+  }
+
+  @Bean(name = REST_SEND_EXECUTOR)
+  public BoundedTaskExecutor restSendExecutor() {
+    return new BoundedTaskExecutor("rest-send", executorProperties.getRestSend());
+  }
+
+  @Bean(name = EMAIL_SEND_EXECUTOR)
+  public BoundedTaskExecutor emailSendExecutor() {
+    return new BoundedTaskExecutor("email-send", executorProperties.getEmailSend());
+  }
+
+  @Bean(name = ESCALATION_EXECUTOR)
+  public BoundedTaskExecutor escalationExecutor() {
+    return new BoundedTaskExecutor("escalation", executorProperties.getEscalation());
+  }
+
+  @Bean(name = CLEANUP_EXECUTOR)
+  public BoundedTaskExecutor cleanupExecutor() {
+    return new BoundedTaskExecutor("cleanup", executorProperties.getCleanup());
+  }
+
+  /**
+   * Runs the one long-lived loop which delivers the queued mails over the SMTP connection. The
+   * connection must not be shared, so the pool has exactly one thread and takes no other task.
+   */
+  @Bean(name = MAIL_DELIVERY_EXECUTOR)
+  public BoundedTaskExecutor mailDeliveryExecutor() {
+    return new BoundedTaskExecutor("mail-delivery", new Pool(1, 1, 0, RejectionPolicy.ABORT));
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return generalExecutor();
+  }
+
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return (e, method, params) -> logger
+        .error("asynchronous " + method.getName() + " operation failed: " + e.getMessage(), e);
+  }
+
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import org.edgexfoundry.support.domain.notifications.ChannelType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("application.backoff")
+public class BackoffProperties {
+
+  private Policy rest = new Policy(Strategy.DECORRELATED_JITTER, 10000, 300000, 3);
+  private Policy email = new Policy(Strategy.EXPONENTIAL, 100000, 1800000, 2);
+
+  public Policy getPolicy(ChannelType channelType) {
+    return channelType == ChannelType.EMAIL ? email : rest;
+  }
+
+  public Policy getRest() {
+    return rest;
+  }
+
+  public void setRest(Policy rest) {
+    this.rest = rest;
+  }
+
+  public Policy getEmail() {
+    return email;
+  }
+
+  public void setEmail(Policy email) {
+    this.email = email;
+  }
+
+  public enum Strategy {
+    FIXED, EXPONENTIAL, DECORRELATED_JITTER
+  }
+
+  public static class Policy {
+
+    private Strategy strategy;
+    private long baseDelay;
+    private long maxDelay;
+    private double multiplier;
+
+    public Policy() {
+      this(Strategy.FIXED, 100000, 100000, 1);
+    }
+
+    public Policy(Strategy strategy, long baseDelay, long maxDelay, double multiplier) {
+      this.strategy = strategy;
+      this.baseDelay = baseDelay;
+      this.maxDelay = maxDelay;
+      this.multiplier = multiplier;
+    }
+
+    public Strategy getStrategy() {
+      return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+      this.strategy = strategy;
+    }
+
+    public long getBaseDelay() {
+      return baseDelay;
+    }
+
+    public void setBaseDelay(long baseDelay) {
+      this.baseDelay = baseDelay;
+    }
+
+    public long getMaxDelay() {
+      return maxDelay;
+    }
+
+    public void setMaxDelay(long maxDelay) {
+      this.maxDelay = maxDelay;
+    }
+
+    public double getMultiplier() {
+      return multiplier;
+    }
+
+    public void setMultiplier(double multiplier) {
+      this.multiplier = multiplier;
+    }
+
+  }
+
+}
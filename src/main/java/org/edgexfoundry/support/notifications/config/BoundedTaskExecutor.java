@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.Pool;
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.RejectionPolicy;
+import org.edgexfoundry.support.notifications.domain.ExecutorStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * A named thread pool with a bounded queue, which counts the tasks it has rejected so that its
+ * saturation can be reported.
+ */
+public class BoundedTaskExecutor extends ThreadPoolTaskExecutor {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  private final String name;
+  private final int queueCapacity;
+  private final RejectionPolicy rejectionPolicy;
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  public BoundedTaskExecutor(String name, Pool pool) {
+    this.name = name;
+    this.queueCapacity = pool.getQueueCapacity();
+    this.rejectionPolicy = pool.getRejectionPolicy() == null ? RejectionPolicy.CALLER_RUNS
+        : pool.getRejectionPolicy();
+    setThreadNamePrefix(name + "-");
+    setCorePoolSize(pool.getCoreSize());
+    setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+    setQueueCapacity(pool.getQueueCapacity());
+    setRejectedExecutionHandler(new CountingRejectedExecutionHandler(toHandler(rejectionPolicy)));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  public int getQueueSize() {
+    return getThreadPoolExecutor().getQueue().size();
+  }
+
+  public ExecutorStatus getStatus() {
+    ThreadPoolExecutor executor = getThreadPoolExecutor();
+    ExecutorStatus status = new ExecutorStatus();
+    status.setName(name);
+    status.setCorePoolSize(executor.getCorePoolSize());
+    status.setMaxPoolSize(executor.getMaximumPoolSize());
+    status.setPoolSize(executor.getPoolSize());
+    status.setActiveCount(executor.getActiveCount());
+    status.setQueueSize(executor.getQueue().size());
+    status.setQueueCapacity(queueCapacity);
+    status.setCompletedTaskCount(executor.getCompletedTaskCount());
+    status.setRejectedCount(rejectedCount.get());
+    status.setRejectionPolicy(rejectionPolicy.toString());
+    return status;
+  }
+
+  private static RejectedExecutionHandler toHandler(RejectionPolicy policy) {
+    switch (policy) {
+      case ABORT:
+        return new ThreadPoolExecutor.AbortPolicy();
+      case DISCARD:
+        return new ThreadPoolExecutor.DiscardPolicy();
+      case DISCARD_OLDEST:
+        return new ThreadPoolExecutor.DiscardOldestPolicy();
+      default:
+        return new ThreadPoolExecutor.CallerRunsPolicy();
+    }
+  }
+
+  private class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+
+    CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+      long count = rejectedCount.incrementAndGet();
+      logger.warn(name + " executor is saturated, applying " + rejectionPolicy
+          + " rejection policy, rejected task count: " + count);
+      delegate.rejectedExecution(task, executor);
+    }
+
+  }
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("application.circuitbreaker")
+public class CircuitBreakerProperties {
+
+  private boolean enabled = true;
+  private int failureThreshold = 5;
+  private long openDuration = 30000;
+  private int halfOpenMaxCalls = 1;
+  private long evictInterval = 600000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  public long getOpenDuration() {
+    return openDuration;
+  }
+
+  public void setOpenDuration(long openDuration) {
+    this.openDuration = openDuration;
+  }
+
+  public int getHalfOpenMaxCalls() {
+    return halfOpenMaxCalls;
+  }
+
+  public void setHalfOpenMaxCalls(int halfOpenMaxCalls) {
+    this.halfOpenMaxCalls = halfOpenMaxCalls;
+  }
+
+  public long getEvictInterval() {
+    return evictInterval;
+  }
+
+  public void setEvictInterval(long evictInterval) {
+    this.evictInterval = evictInterval;
+  }
+
+}
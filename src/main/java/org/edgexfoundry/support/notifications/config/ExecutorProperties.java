@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("application.executor")
+public class ExecutorProperties {
+
+  private Pool general = new Pool(2, 2, 10, RejectionPolicy.CALLER_RUNS);
+  private Pool distribution = new Pool(2, 4, 1000, RejectionPolicy.CALLER_RUNS);
+  private Pool restSend = new Pool(4, 16, 2000, RejectionPolicy.CALLER_RUNS);
+  private Pool emailSend = new Pool(2, 4, 1000, RejectionPolicy.CALLER_RUNS);
+  private Pool escalation = new Pool(1, 2, 100, RejectionPolicy.CALLER_RUNS);
+  private Pool cleanup = new Pool(1, 1, 1, RejectionPolicy.DISCARD);
+
+  public Pool getGeneral() {
+    return general;
+  }
+
+  public void setGeneral(Pool general) {
+    this.general = general;
+  }
+
+  public Pool getDistribution() {
+    return distribution;
+  }
+
+  public void setDistribution(Pool distribution) {
+    this.distribution = distribution;
+  }
+
+  public Pool getRestSend() {
+    return restSend;
+  }
+
+  public void setRestSend(Pool restSend) {
+    this.restSend = restSend;
+  }
+
+  public Pool getEmailSend() {
+    return emailSend;
+  }
+
+  public void setEmailSend(Pool emailSend) {
+    this.emailSend = emailSend;
+  }
+
+  public Pool getEscalation() {
+    return escalation;
+  }
+
+  public void setEscalation(Pool escalation) {
+    this.escalation = escalation;
+  }
+
+  public Pool getCleanup() {
+    return cleanup;
+  }
+
+  public void setCleanup(Pool cleanup) {
+    this.cleanup = cleanup;
+  }
+
+  public enum RejectionPolicy {
+    ABORT, CALLER_RUNS, DISCARD, DISCARD_OLDEST
+  }
+
+  public static class Pool {
+
+    private int coreSize;
+    private int maxSize;
+    private int queueCapacity;
+    private RejectionPolicy rejectionPolicy;
+
+    public Pool() {
+      this(1, 1, 0, RejectionPolicy.CALLER_RUNS);
+    }
+
+    public Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+      this.coreSize = coreSize;
+      this.maxSize = maxSize;
+      this.queueCapacity = queueCapacity;
+      this.rejectionPolicy = rejectionPolicy;
+    }
+
+    public int getCoreSize() {
+      return coreSize;
+    }
+
+    public void setCoreSize(int coreSize) {
+      this.coreSize = coreSize;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+      return rejectionPolicy;
+    }
+
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+      this.rejectionPolicy = rejectionPolicy;
+    }
+
+  }
+
+}
@@ -26,8 +26,14 @@ import org.springframework.stereotype.Component;
 public class GeneralConfig {
 
   private int readLimit;
+  private int batchLimit = 500;
   private int resendLimit;
   private int schedulerPoolSize;
+  private int httpMaxConnections = 50;
+  private int httpMaxConnectionsPerRoute = 10;
+  private int httpConnectTimeout = 5000;
+  private int httpReadTimeout = 10000;
+  private long httpKeepAlive = 30000;
 
   public int getReadLimit() {
     return readLimit;
@@ -37,6 +43,14 @@ public class GeneralConfig {
     this.readLimit = readLimit;
   }
 
+  public int getBatchLimit() {
+    return batchLimit;
+  }
+
+  public void setBatchLimit(int batchLimit) {
+    this.batchLimit = batchLimit;
+  }
+
   public int getResendLimit() {
     return resendLimit;
   }
@@ -53,4 +67,44 @@ public class GeneralConfig {
     this.schedulerPoolSize = schedulerPoolSize;
   }
 
+  public int getHttpMaxConnections() {
+    return httpMaxConnections;
+  }
+
+  public void setHttpMaxConnections(int httpMaxConnections) {
+    this.httpMaxConnections = httpMaxConnections;
+  }
+
+  public int getHttpMaxConnectionsPerRoute() {
+    return httpMaxConnectionsPerRoute;
+  }
+
+  public void setHttpMaxConnectionsPerRoute(int httpMaxConnectionsPerRoute) {
+    this.httpMaxConnectionsPerRoute = httpMaxConnectionsPerRoute;
+  }
+
+  public int getHttpConnectTimeout() {
+    return httpConnectTimeout;
+  }
+
+  public void setHttpConnectTimeout(int httpConnectTimeout) {
+    this.httpConnectTimeout = httpConnectTimeout;
+  }
+
+  public int getHttpReadTimeout() {
+    return httpReadTimeout;
+  }
+
+  public void setHttpReadTimeout(int httpReadTimeout) {
+    this.httpReadTimeout = httpReadTimeout;
+  }
+
+  public long getHttpKeepAlive() {
+    return httpKeepAlive;
+  }
+
+  public void setHttpKeepAlive(long httpKeepAlive) {
+    this.httpKeepAlive = httpKeepAlive;
+  }
+
 }
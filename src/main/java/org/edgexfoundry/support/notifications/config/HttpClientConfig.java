@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Shared HTTP client of the RESTful channel. Connections are pooled per route and kept alive, so
+ * repeated sends to the same subscriber reuse their TCP/TLS connection, and every request is
+ * bounded by connect, connection lease and read timeouts.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  @Autowired
+  private GeneralConfig generalConfig;
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient httpClient() {
+    PoolingHttpClientConnectionManager connectionManager =
+        new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(generalConfig.getHttpMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(generalConfig.getHttpMaxConnectionsPerRoute());
+
+    RequestConfig requestConfig =
+        RequestConfig.custom().setConnectTimeout(generalConfig.getHttpConnectTimeout())
+            .setConnectionRequestTimeout(generalConfig.getHttpConnectTimeout())
+            .setSocketTimeout(generalConfig.getHttpReadTimeout()).build();
+
+    return HttpClients.custom().setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig).setKeepAliveStrategy(keepAliveStrategy())
+        .evictExpiredConnections()
+        .evictIdleConnections(generalConfig.getHttpKeepAlive(), TimeUnit.MILLISECONDS).build();
+  }
+
+  @Bean
+  public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+  }
+
+  private ConnectionKeepAliveStrategy keepAliveStrategy() {
+    return (response, context) -> {
+      long keepAlive =
+          DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return keepAlive > 0 ? keepAlive : generalConfig.getHttpKeepAlive();
+    };
+  }
+
+}
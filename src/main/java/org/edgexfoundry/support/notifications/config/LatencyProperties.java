@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivery latency targets of the notification severities which are distributed by a scheduler.
+ * Critical notifications are distributed as soon as they are received and have none.
+ */
+@Component
+@ConfigurationProperties("application.scheduler.latency")
+public class LatencyProperties {
+
+  private Target normal = new Target(300000, 5000, 2);
+
+  public Target getTarget(NotificationSeverity severity) {
+    return severity == NotificationSeverity.NORMAL ? normal : null;
+  }
+
+  public Target getNormal() {
+    return normal;
+  }
+
+  public void setNormal(Target normal) {
+    this.normal = normal;
+  }
+
+  /**
+   * The scheduler runs every minInterval milliseconds while it finds work and multiplies the
+   * interval by backoff after every run which finds none, up to the target.
+   */
+  public static class Target {
+
+    private long target;
+    private long minInterval;
+    private double backoff;
+
+    public Target() {
+      this(300000, 300000, 1);
+    }
+
+    public Target(long target, long minInterval, double backoff) {
+      this.target = target;
+      this.minInterval = minInterval;
+      this.backoff = backoff;
+    }
+
+    public long getTarget() {
+      return target;
+    }
+
+    public void setTarget(long target) {
+      this.target = target;
+    }
+
+    public long getMinInterval() {
+      return minInterval;
+    }
+
+    public void setMinInterval(long minInterval) {
+      this.minInterval = minInterval;
+    }
+
+    public double getBackoff() {
+      return backoff;
+    }
+
+    public void setBackoff(double backoff) {
+      this.backoff = backoff;
+    }
+
+  }
+
+}
@@ -27,6 +27,11 @@ public class MailChannelProperties {
 
   private String subject;
   private String sender;
+  private long batchWindow = 200;
+  private int batchMaxSize = 50;
+  private long idleTimeout = 30000;
+  private long sendTimeout = 60000;
+  private int queueCapacity = 1000;
 
   public String getSubject() {
     return subject;
@@ -44,4 +49,44 @@ public class MailChannelProperties {
     this.sender = sender;
   }
 
+  public long getBatchWindow() {
+    return batchWindow;
+  }
+
+  public void setBatchWindow(long batchWindow) {
+    this.batchWindow = batchWindow;
+  }
+
+  public int getBatchMaxSize() {
+    return batchMaxSize;
+  }
+
+  public void setBatchMaxSize(int batchMaxSize) {
+    this.batchMaxSize = batchMaxSize;
+  }
+
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public void setIdleTimeout(long idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public long getSendTimeout() {
+    return sendTimeout;
+  }
+
+  public void setSendTimeout(long sendTimeout) {
+    this.sendTimeout = sendTimeout;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
 }
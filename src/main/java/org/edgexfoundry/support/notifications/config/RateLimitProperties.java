@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.edgexfoundry.support.notifications.service.RateLimiter.Scope;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("application.ratelimit")
+public class RateLimitProperties {
+
+  private Limit sender = new Limit(0, 100);
+  private Limit subscription = new Limit(0, 20);
+  private Map<String, Limit> senders = new LinkedHashMap<>();
+  private Map<String, Limit> subscriptions = new LinkedHashMap<>();
+  private long evictInterval = 600000;
+
+  /**
+   * @return the limit configured for the given sender or receiver, or the default limit of the
+   *         scope
+   */
+  public Limit getLimit(Scope scope, String key) {
+    Map<String, Limit> limits = scope == Scope.SENDER ? senders : subscriptions;
+    for (Map.Entry<String, Limit> limit : limits.entrySet()) {
+      if (limit.getKey().equalsIgnoreCase(key)) {
+        return limit.getValue();
+      }
+    }
+    return scope == Scope.SENDER ? sender : subscription;
+  }
+
+  public Limit getSender() {
+    return sender;
+  }
+
+  public void setSender(Limit sender) {
+    this.sender = sender;
+  }
+
+  public Limit getSubscription() {
+    return subscription;
+  }
+
+  public void setSubscription(Limit subscription) {
+    this.subscription = subscription;
+  }
+
+  public Map<String, Limit> getSenders() {
+    return senders;
+  }
+
+  public void setSenders(Map<String, Limit> senders) {
+    this.senders = senders;
+  }
+
+  public Map<String, Limit> getSubscriptions() {
+    return subscriptions;
+  }
+
+  public void setSubscriptions(Map<String, Limit> subscriptions) {
+    this.subscriptions = subscriptions;
+  }
+
+  public long getEvictInterval() {
+    return evictInterval;
+  }
+
+  public void setEvictInterval(long evictInterval) {
+    this.evictInterval = evictInterval;
+  }
+
+  public static class Limit {
+
+    private double rate;
+    private int burst;
+
+    public Limit() {
+      this(0, 1);
+    }
+
+    public Limit(double rate, int burst) {
+      this.rate = rate;
+      this.burst = burst;
+    }
+
+    public boolean isUnlimited() {
+      return rate <= 0;
+    }
+
+    public double getRate() {
+      return rate;
+    }
+
+    public void setRate(double rate) {
+      this.rate = rate;
+    }
+
+    public int getBurst() {
+      return burst;
+    }
+
+    public void setBurst(int burst) {
+      this.burst = burst;
+    }
+
+  }
+
+}
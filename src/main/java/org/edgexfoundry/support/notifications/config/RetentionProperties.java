@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retention periods in milliseconds, counted from the last modification, after which MongoDB
+ * expires a notification or transmission by itself. A period of 0 keeps the documents until they
+ * are cleaned up explicitly.
+ */
+@Component
+@ConfigurationProperties("application.retention")
+public class RetentionProperties {
+
+  private boolean enabled = false;
+  private long sent = 604800000;
+  private long acknowledged = 604800000;
+  private long escalated = 2592000000L;
+  private long processed = 604800000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getSent() {
+    return sent;
+  }
+
+  public void setSent(long sent) {
+    this.sent = sent;
+  }
+
+  public long getAcknowledged() {
+    return acknowledged;
+  }
+
+  public void setAcknowledged(long acknowledged) {
+    this.acknowledged = acknowledged;
+  }
+
+  public long getEscalated() {
+    return escalated;
+  }
+
+  public void setEscalated(long escalated) {
+    this.escalated = escalated;
+  }
+
+  public long getProcessed() {
+    return processed;
+  }
+
+  public void setProcessed(long processed) {
+    this.processed = processed;
+  }
+
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller;
+
+import java.util.List;
+
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus;
+import org.springframework.web.bind.annotation.RequestParam;
+
+public interface CircuitBreakerController {
+
+  List<CircuitBreakerStatus> listCircuitBreakers();
+
+  boolean resetCircuitBreaker(@RequestParam String url);
+
+}
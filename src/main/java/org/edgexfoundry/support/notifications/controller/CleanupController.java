@@ -18,6 +18,7 @@
 
 package org.edgexfoundry.support.notifications.controller;
 
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 
@@ -27,4 +28,6 @@ public interface CleanupController {
 
   ResponseEntity<Void> cleanupOld(@PathVariable long age);
 
+  CleanupStatus getStatus();
+
 }
@@ -21,21 +21,33 @@ package org.edgexfoundry.support.notifications.controller;
 import java.util.List;
 
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 public interface NotificationController {
 
   ResponseEntity<String> receiveNotification(@RequestBody Notification notification);
 
+  ResponseEntity<List<BatchItemResult>> receiveNotifications(
+      @RequestBody List<Notification> notifications);
+
   Notification findBySlug(@PathVariable String slug);
 
+  Occurrence findOccurrence(@PathVariable String slug);
+
   List<Notification> findBySender(@PathVariable String sender, @PathVariable int limit);
 
   List<Notification> findByCreatedDuration(@PathVariable long start, @PathVariable long end,
       @PathVariable int limit);
 
+  ResultPage<Notification> findPage(@PathVariable int limit, @RequestParam Long start,
+      @RequestParam Long end, @RequestParam String cursor);
+
   List<Notification> findByCreatedAfter(@PathVariable long start, @PathVariable int limit);
 
   List<Notification> findByCreatedBefore(@PathVariable long end, @PathVariable int limit);
@@ -48,4 +60,20 @@ public interface NotificationController {
 
   boolean deleteOld(@PathVariable long age);
 
+  List<Notification> findSummariesBySender(@PathVariable String sender, @PathVariable int limit);
+
+  List<Notification> findSummariesByCreatedDuration(@PathVariable long start,
+      @PathVariable long end, @PathVariable int limit);
+
+  List<Notification> findSummariesByCreatedAfter(@PathVariable long start,
+      @PathVariable int limit);
+
+  List<Notification> findSummariesByCreatedBefore(@PathVariable long end,
+      @PathVariable int limit);
+
+  List<Notification> findSummariesInLabels(@PathVariable String[] labels,
+      @PathVariable int limit);
+
+  List<Notification> findNewNotificationSummaries(@PathVariable int limit);
+
 }
@@ -21,7 +21,9 @@ package org.edgexfoundry.support.notifications.controller;
 import java.util.List;
 
 import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 public interface TransmissionController {
 
@@ -30,6 +32,9 @@ public interface TransmissionController {
   List<Transmission> findByCreatedDuration(@PathVariable long start, @PathVariable long end,
       @PathVariable int limit);
 
+  ResultPage<Transmission> findPage(@PathVariable int limit, @RequestParam Long start,
+      @RequestParam Long end, @RequestParam String cursor);
+
   List<Transmission> findByCreatedAfter(@PathVariable long start, @PathVariable int limit);
 
   List<Transmission> findByCreatedBefore(@PathVariable long end, @PathVariable int limit);
@@ -46,4 +51,20 @@ public interface TransmissionController {
 
   boolean deleteOldFailed(@PathVariable long age);
 
+  List<Transmission> findSummariesByNotificationSlug(@PathVariable String slug,
+      @PathVariable int limit);
+
+  List<Transmission> findSummariesByCreatedDuration(@PathVariable long start,
+      @PathVariable long end, @PathVariable int limit);
+
+  List<Transmission> findSummariesByCreatedAfter(@PathVariable long start,
+      @PathVariable int limit);
+
+  List<Transmission> findSummariesByCreatedBefore(@PathVariable long end,
+      @PathVariable int limit);
+
+  List<Transmission> findEscalatedTransmissionSummaries(@PathVariable int limit);
+
+  List<Transmission> findFailedTransmissionSummaries(@PathVariable int limit);
+
 }
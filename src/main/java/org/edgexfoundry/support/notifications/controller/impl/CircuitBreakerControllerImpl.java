@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller.impl;
+
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.NotFoundException;
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.notifications.controller.CircuitBreakerController;
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/circuitbreaker")
+public class CircuitBreakerControllerImpl implements CircuitBreakerController {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Override
+  @RequestMapping(method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<CircuitBreakerStatus> listCircuitBreakers() {
+    try {
+      return circuitBreakerRegistry.getStatuses();
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
+  @Override
+  @RequestMapping(method = RequestMethod.DELETE)
+  public boolean resetCircuitBreaker(@RequestParam String url) {
+    boolean reset;
+    try {
+      reset = circuitBreakerRegistry.reset(url);
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    if (!reset) {
+      throw new NotFoundException(CircuitBreakerStatus.class.toString(), url);
+    }
+    logger.info("circuit breaker is reset for " + url);
+    return true;
+  }
+
+}
@@ -18,10 +18,13 @@
 
 package org.edgexfoundry.support.notifications.controller.impl;
 
+import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.notifications.controller.CleanupController;
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
 import org.edgexfoundry.support.notifications.service.CleanupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -54,4 +57,16 @@ public class CleanupControllerImpl implements CleanupController {
     return new ResponseEntity<>(HttpStatus.ACCEPTED);
   }
 
+  @Override
+  @RequestMapping(value = "/status", method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public CleanupStatus getStatus() {
+    try {
+      return cleanupService.getStatus();
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
 }
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.notifications.config.BoundedTaskExecutor;
+import org.edgexfoundry.support.notifications.controller.ExecutorController;
+import org.edgexfoundry.support.notifications.domain.ExecutorStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/executor")
+public class ExecutorControllerImpl implements ExecutorController {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private List<BoundedTaskExecutor> executors;
+
+  @Override
+  @RequestMapping(method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<ExecutorStatus> listExecutors() {
+    List<ExecutorStatus> result = new ArrayList<>();
+    try {
+      for (BoundedTaskExecutor executor : executors) {
+        result.add(executor.getStatus());
+      }
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    result.sort(Comparator.comparing(ExecutorStatus::getName));
+    return result;
+  }
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller.impl;
+
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.controller.ExportController;
+import org.edgexfoundry.support.notifications.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/export")
+public class ExportControllerImpl implements ExportController {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType(ExportService.NDJSON_MEDIA_TYPE);
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private ExportService exportService;
+
+  @Override
+  @RequestMapping(value = "/notification", method = RequestMethod.GET,
+      produces = ExportService.NDJSON_MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> exportNotifications(
+      @RequestParam(required = false) Long start, @RequestParam(required = false) Long end,
+      @RequestParam(required = false) String[] labels) {
+    logger.info("received notification export request");
+    StreamingResponseBody body = out -> {
+      try {
+        exportService.exportNotifications(startOf(start), endOf(end), labels, out);
+      } catch (Exception e) {
+        // the response is committed already, the client sees a truncated export
+        logger.error("notification export aborted: " + e.getMessage(), e);
+        throw e;
+      }
+    };
+    return ResponseEntity.status(HttpStatus.OK).contentType(NDJSON).body(body);
+  }
+
+  @Override
+  @RequestMapping(value = "/transmission", method = RequestMethod.GET,
+      produces = ExportService.NDJSON_MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> exportTransmissions(
+      @RequestParam(required = false) Long start, @RequestParam(required = false) Long end,
+      @RequestParam(required = false) TransmissionStatus status) {
+    logger.info("received transmission export request");
+    StreamingResponseBody body = out -> {
+      try {
+        exportService.exportTransmissions(startOf(start), endOf(end), status, out);
+      } catch (Exception e) {
+        logger.error("transmission export aborted: " + e.getMessage(), e);
+        throw e;
+      }
+    };
+    return ResponseEntity.status(HttpStatus.OK).contentType(NDJSON).body(body);
+  }
+
+  private static long startOf(Long start) {
+    return start == null ? 0 : start;
+  }
+
+  private static long endOf(Long end) {
+    return end == null ? Long.MAX_VALUE : end;
+  }
+
+}
@@ -28,8 +28,13 @@ import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.controller.NotificationController;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult.Status;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.edgexfoundry.support.notifications.service.NotificationHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +42,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -48,6 +54,10 @@ public class NotificationControllerImpl implements NotificationController {
 
   private static final String DOMAIN_NAME = "Notification";
 
+  private static final String RETRY_AFTER = "Retry-After";
+
+  private static final String SUMMARY_VIEW = "view=summary";
+
   @Autowired
   private NotificationHandler notificationHandler;
 
@@ -59,7 +69,17 @@ public class NotificationControllerImpl implements NotificationController {
   public ResponseEntity<String> receiveNotification(@RequestBody Notification notification) {
     try {
       checkSlugIntegrity(notification.getSlug());
-      notificationHandler.receiveNotification(notification);
+      BatchItemResult result = notificationHandler.receiveNotification(notification);
+      if (result.getStatus() == Status.RATE_LIMITED) {
+        logger.info(result.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(RETRY_AFTER, String.valueOf((result.getRetryAfter() + 999) / 1000));
+        return new ResponseEntity<>(result.getMessage(), headers, HttpStatus.TOO_MANY_REQUESTS);
+      }
+      if (result.getStatus() == Status.SUPPRESSED) {
+        logger.info(result.getMessage());
+        return new ResponseEntity<>(result.getRepeatOf(), HttpStatus.OK);
+      }
       return new ResponseEntity<>(notification.getSlug(), HttpStatus.ACCEPTED);
     } catch (DataValidationException | ClientException | ServiceException e) {
       logger.error(e.getMessage(), e);
@@ -70,6 +90,32 @@ public class NotificationControllerImpl implements NotificationController {
     }
   }
 
+  @Override
+  @RequestMapping(value = "/batch", method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<BatchItemResult>> receiveNotifications(
+      @RequestBody List<Notification> notifications) {
+    if (notifications == null || notifications.isEmpty()) {
+      String errMsg = "notification batch is null or empty.";
+      logger.info(errMsg);
+      throw new ClientException(errMsg);
+    }
+    checkMaxBatch(notifications.size());
+    try {
+      List<BatchItemResult> results = notificationHandler.receiveNotifications(notifications);
+      boolean rateLimited = !results.isEmpty()
+          && results.stream().allMatch(result -> result.getStatus() == Status.RATE_LIMITED);
+      return new ResponseEntity<>(results,
+          rateLimited ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.ACCEPTED);
+    } catch (DataValidationException | ClientException | ServiceException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
   @Override
   @RequestMapping(value = "/slug/{slug:.+}", method = RequestMethod.GET)
   public Notification findBySlug(@PathVariable String slug) {
@@ -89,6 +135,20 @@ public class NotificationControllerImpl implements NotificationController {
     return result;
   }
 
+  @Override
+  @RequestMapping(value = "/slug/{slug:.+}/occurrence", method = RequestMethod.GET)
+  public Occurrence findOccurrence(@PathVariable String slug) {
+    try {
+      return notificationHandler.findOccurrence(slug);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
   @Override
   @RequestMapping(value = "/sender/{sender:.+}/{limit}", method = RequestMethod.GET)
   public List<Notification> findBySender(@PathVariable String sender, @PathVariable int limit) {
@@ -124,6 +184,27 @@ public class NotificationControllerImpl implements NotificationController {
     return result;
   }
 
+  @Override
+  @RequestMapping(value = "/page/{limit}", method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResultPage<Notification> findPage(@PathVariable int limit,
+      @RequestParam(required = false) Long start, @RequestParam(required = false) Long end,
+      @RequestParam(required = false) String cursor) {
+    checkMaxLimit(limit);
+    ResultPage<Notification> result;
+    try {
+      result = notificationHandler.findByCreatedDuration(start == null ? 0 : start,
+          end == null ? Long.MAX_VALUE : end, cursor, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
   @Override
   @RequestMapping(value = "/start/{start}/{limit}", method = RequestMethod.GET)
   public List<Notification> findByCreatedAfter(@PathVariable long start, @PathVariable int limit) {
@@ -223,6 +304,119 @@ public class NotificationControllerImpl implements NotificationController {
     }
   }
 
+  @Override
+  @RequestMapping(value = "/sender/{sender:.+}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findSummariesBySender(@PathVariable String sender,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.searchSummariesBySender(sender, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/{start}/{end}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findSummariesByCreatedDuration(@PathVariable long start,
+      @PathVariable long end, @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.findSummariesByCreatedDuration(start, end, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/start/{start}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findSummariesByCreatedAfter(@PathVariable long start,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.findSummariesByCreatedAfter(start, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/end/{end}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findSummariesByCreatedBefore(@PathVariable long end,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.findSummariesByCreatedBefore(end, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/labels/{labels}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findSummariesInLabels(@PathVariable String[] labels,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.findSummariesInLabels(labels, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/new/{limit:.+}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Notification> findNewNotificationSummaries(@PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Notification> result;
+    try {
+      result = notificationHandler.findNewNotificationSummaries(limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
   private void checkSlugIntegrity(String slug) {
     if (slug == null || slug.isEmpty()) {
       String errMsg = "slug is null or empty.";
@@ -238,6 +432,14 @@ public class NotificationControllerImpl implements NotificationController {
     }
   }
 
+  private void checkMaxBatch(int size) {
+    if (size > generalConfig.getBatchLimit()) {
+      LimitExceededException e = new LimitExceededException(DOMAIN_NAME);
+      logger.info(e.getMessage());
+      throw e;
+    }
+  }
+
   private void checkMaxLimit(int limit) {
     if (limit > generalConfig.getReadLimit()) {
       LimitExceededException e = new LimitExceededException(DOMAIN_NAME);
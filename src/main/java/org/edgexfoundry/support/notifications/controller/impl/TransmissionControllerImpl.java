@@ -28,12 +28,14 @@ import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.controller.TransmissionController;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.edgexfoundry.support.notifications.service.TransmissionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -45,6 +47,8 @@ public class TransmissionControllerImpl implements TransmissionController {
 
   private static final String DOMAIN_NAME = "Transmission";
 
+  private static final String SUMMARY_VIEW = "view=summary";
+
   @Autowired
   private TransmissionHandler transmissionHandler;
 
@@ -86,6 +90,27 @@ public class TransmissionControllerImpl implements TransmissionController {
     return result;
   }
 
+  @Override
+  @RequestMapping(value = "/page/{limit}", method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResultPage<Transmission> findPage(@PathVariable int limit,
+      @RequestParam(required = false) Long start, @RequestParam(required = false) Long end,
+      @RequestParam(required = false) String cursor) {
+    checkMaxLimit(limit);
+    ResultPage<Transmission> result;
+    try {
+      result = transmissionHandler.findByCreatedDuration(start == null ? 0 : start,
+          end == null ? Long.MAX_VALUE : end, cursor, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
   @Override
   @RequestMapping(value = "/start/{start}/{limit}", method = RequestMethod.GET,
       produces = MediaType.APPLICATION_JSON_VALUE)
@@ -158,6 +183,118 @@ public class TransmissionControllerImpl implements TransmissionController {
     return result;
   }
 
+  @Override
+  @RequestMapping(value = "/slug/{slug:.+}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findSummariesByNotificationSlug(@PathVariable String slug,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findSummariesByNotificationSlug(slug, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/{start}/{end}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findSummariesByCreatedDuration(@PathVariable long start,
+      @PathVariable long end, @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findSummariesByCreatedDuration(start, end, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/start/{start}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findSummariesByCreatedAfter(@PathVariable long start,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findSummariesByCreatedAfter(start, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/end/{end}/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findSummariesByCreatedBefore(@PathVariable long end,
+      @PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findSummariesByCreatedBefore(end, limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/escalated/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findEscalatedTransmissionSummaries(@PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findEscalatedTransmissionSummaries(limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
+  @Override
+  @RequestMapping(value = "/failed/{limit}", method = RequestMethod.GET,
+      params = SUMMARY_VIEW, produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<Transmission> findFailedTransmissionSummaries(@PathVariable int limit) {
+    checkMaxLimit(limit);
+    List<Transmission> result;
+    try {
+      result = transmissionHandler.findFailedTransmissionSummaries(limit);
+    } catch (NotFoundException | DataValidationException | ServiceException | ClientException e) {
+      logger.error(e.getMessage(), e);
+      throw e;
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return result;
+  }
+
   private void checkMaxLimit(int limit) {
     if (limit > generalConfig.getReadLimit()) {
       LimitExceededException e = new LimitExceededException(DOMAIN_NAME);
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import org.bson.types.ObjectId;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Queries of keyset paged reads in (created DESC, id DESC) order. A page after a cursor only bounds
+ * the created range by the cursor and breaks ties by id, so that every page is one range scan of
+ * the (created, _id) index no matter how deep into the result it is.
+ */
+final class KeysetQuery {
+
+  private static final String CREATED_FIELD = "created";
+  private static final String ID_FIELD = "id";
+
+  private KeysetQuery() {}
+
+  static Query createdBetween(long start, long end, PageCursor cursor, int limit) {
+    Criteria criteria;
+    if (cursor == null) {
+      criteria = Criteria.where(CREATED_FIELD).gte(start).lte(end);
+    } else {
+      criteria = Criteria.where(CREATED_FIELD).gte(start).lte(Math.min(end, cursor.getCreated()))
+          .orOperator(Criteria.where(CREATED_FIELD).lt(cursor.getCreated()),
+              Criteria.where(ID_FIELD).lt(objectId(cursor.getId())));
+    }
+    return new Query(criteria).with(new Sort(Sort.Direction.DESC, CREATED_FIELD, ID_FIELD))
+        .limit(limit);
+  }
+
+  // the query mapper leaves the id of a range operator as a string, which never compares to the
+  // ObjectId stored in _id
+  private static Object objectId(String id) {
+    return ObjectId.isValid(id) ? new ObjectId(id) : id;
+  }
+
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the normalized shadow fields of every notification and subscription saved through the
+ * repositories.
+ */
+@Component
+public class NormalizationEventListener extends AbstractMongoEventListener<Object> {
+
+  @Override
+  public void onBeforeSave(BeforeSaveEvent<Object> event) {
+    Object source = event.getSource();
+    if (source instanceof Notification) {
+      NormalizedFields.put((Notification) source, event.getDBObject());
+    } else if (source instanceof Subscription) {
+      NormalizedFields.put((Subscription) source, event.getDBObject());
+    }
+  }
+
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * One-time background backfill of the normalized fields of the notifications and subscriptions
+ * written before those fields existed. Until it has completed, the repositories keep answering
+ * case-insensitive lookups with regular expressions on the original fields; its completion is
+ * recorded in the database so that later startups skip it.
+ */
+@Component
+public class NormalizedFieldMigration {
+
+  private static final String MIGRATION_COLLECTION = "migration";
+  private static final String MIGRATION_ID = "normalizedFields";
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  private volatile boolean completed;
+
+  @PostConstruct
+  public void init() {
+    try {
+      completed = mongoTemplate.getCollection(MIGRATION_COLLECTION)
+          .findOne(new BasicDBObject("_id", MIGRATION_ID)) != null;
+    } catch (Exception e) {
+      logger.error("normalized field migration state cannot be read: " + e.getMessage(), e);
+    }
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Async(AsyncExecutorConfig.GENERAL_EXECUTOR)
+  @EventListener(ContextRefreshedEvent.class)
+  public void migrate() {
+    if (completed || !started.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      logger.info("normalized field migration is started");
+      long notifications = backfill(Notification.class, Notification::getId, NormalizedFields::put,
+          "slug", "sender", "labels");
+      long subscriptions = backfill(Subscription.class, Subscription::getId,
+          NormalizedFields::put, "slug", "receiver", "subscribedCategories", "subscribedLabels");
+
+      mongoTemplate.getCollection(MIGRATION_COLLECTION).save(new BasicDBObject("_id", MIGRATION_ID)
+          .append("completed", System.currentTimeMillis()));
+      completed = true;
+      logger.info("normalized field migration is completed: " + notifications
+          + " notification(s) and " + subscriptions + " subscription(s) migrated");
+    } catch (Exception e) {
+      started.set(false);
+      logger.error("normalized field migration failed, it is retried on the next startup: "
+          + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Walk the documents without normalized fields with a cursor, reading only the fields to be
+   * normalized, and set the normalized fields of each.
+   */
+  private <T> long backfill(Class<T> entityClass, Function<T, String> idOf,
+      BiConsumer<T, DBObject> normalizer, String... fields) {
+    Query query = new Query(Criteria.where(NormalizedFields.SLUG).exists(false));
+    for (String field : fields) {
+      query.fields().include(field);
+    }
+
+    long migrated = 0;
+    try (CloseableIterator<T> documents = mongoTemplate.stream(query, entityClass)) {
+      while (documents.hasNext()) {
+        T document = documents.next();
+        DBObject normalized = new BasicDBObject();
+        normalizer.accept(document, normalized);
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(idOf.apply(document))),
+            Update.fromDBObject(new BasicDBObject("$set", normalized)), entityClass);
+        migrated++;
+      }
+    }
+    return migrated;
+  }
+
+}
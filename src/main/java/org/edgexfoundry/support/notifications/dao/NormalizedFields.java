@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.mongodb.DBObject;
+
+/**
+ * Lower-case shadow copies of the fields which are looked up case-insensitively. They are stored
+ * next to the original fields on every write, so that the lookups are plain equality matches which
+ * an ordinary index serves, instead of case-insensitive regular expressions which scan it.
+ */
+public final class NormalizedFields {
+
+  public static final String SLUG = "slugNormalized";
+  public static final String SENDER = "senderNormalized";
+  public static final String LABELS = "labelsNormalized";
+  public static final String RECEIVER = "receiverNormalized";
+  public static final String SUBSCRIBED_CATEGORIES = "subscribedCategoriesNormalized";
+  public static final String SUBSCRIBED_LABELS = "subscribedLabelsNormalized";
+
+  private NormalizedFields() {}
+
+  public static String normalize(String value) {
+    return value == null ? null : value.toLowerCase(Locale.ROOT);
+  }
+
+  public static List<String> normalize(Object[] values) {
+    List<String> normalized = new ArrayList<>();
+    if (values != null) {
+      for (Object value : values) {
+        if (value != null) {
+          normalized.add(normalize(value.toString()));
+        }
+      }
+    }
+    return normalized;
+  }
+
+  /**
+   * Translate a like pattern, where * matches anything and which otherwise matches anywhere in the
+   * value, into a regular expression.
+   */
+  public static String likeRegex(String value) {
+    String[] parts = value.split("\\*", -1);
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        regex.append(".*");
+      }
+      if (!parts[i].isEmpty()) {
+        regex.append(Pattern.quote(parts[i]));
+      }
+    }
+    return regex.toString();
+  }
+
+  /**
+   * Match a value regardless of case: exactly on the normalized field once every document carries
+   * it, otherwise with a case-insensitive regular expression on the original field.
+   */
+  public static Criteria is(String field, String normalizedField, String value,
+      boolean normalized) {
+    if (value == null) {
+      return Criteria.where(field).is(null);
+    }
+    return normalized ? Criteria.where(normalizedField).is(normalize(value))
+        : Criteria.where(field).regex("^" + Pattern.quote(value) + "$", "i");
+  }
+
+  /**
+   * Match any of the values regardless of case, on the normalized field once every document
+   * carries it.
+   */
+  public static Criteria in(String field, String normalizedField, Object[] values,
+      boolean normalized) {
+    if (normalized) {
+      return Criteria.where(normalizedField).in(normalize(values));
+    }
+    List<Pattern> patterns = new ArrayList<>();
+    for (String value : normalize(values)) {
+      patterns.add(Pattern.compile("^" + Pattern.quote(value) + "$", Pattern.CASE_INSENSITIVE));
+    }
+    return Criteria.where(field).in(patterns);
+  }
+
+  /**
+   * Match a like pattern regardless of case. The pattern still is a regular expression, but on the
+   * normalized field it no longer needs the case-insensitive option.
+   */
+  public static Criteria like(String field, String normalizedField, String value,
+      boolean normalized) {
+    if (value == null) {
+      return Criteria.where(field).is(null);
+    }
+    return normalized ? Criteria.where(normalizedField).regex(likeRegex(normalize(value)))
+        : Criteria.where(field).regex(likeRegex(value), "i");
+  }
+
+  public static void put(Notification notification, DBObject dbo) {
+    dbo.put(SLUG, normalize(notification.getSlug()));
+    dbo.put(SENDER, normalize(notification.getSender()));
+    dbo.put(LABELS, normalize(notification.getLabels()));
+  }
+
+  public static void put(Subscription subscription, DBObject dbo) {
+    dbo.put(SLUG, normalize(subscription.getSlug()));
+    dbo.put(RECEIVER, normalize(subscription.getReceiver()));
+    dbo.put(SUBSCRIBED_CATEGORIES, normalize(subscription.getSubscribedCategories()));
+    dbo.put(SUBSCRIBED_LABELS, normalize(subscription.getSubscribedLabels()));
+  }
+
+}
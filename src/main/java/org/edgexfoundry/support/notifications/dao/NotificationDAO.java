@@ -26,14 +26,15 @@ import org.edgexfoundry.support.domain.notifications.NotificationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-public interface NotificationDAO extends MongoRepository<Notification, String> {
+public interface NotificationDAO
+    extends MongoRepository<Notification, String>, NotificationDAOCustom {
 
-  public Notification findBySlugIgnoreCase(String slug);
-
-  public List<Notification> findBySenderLikeIgnoreCase(String sender);
-
-  public Page<Notification> findBySenderLikeIgnoreCase(String sender, Pageable pageable);
+  /**
+   * Projection of the summary listings, which leave out the content.
+   */
+  public static final String SUMMARY_FIELDS = "{ 'content': 0 }";
 
   public List<Notification> findByCreatedBetween(long start, long end);
 
@@ -47,12 +48,6 @@ public interface NotificationDAO extends MongoRepository<Notification, String> {
 
   public Page<Notification> findByCreatedBefore(long end, Pageable pageable);
 
-  // @Query("{ 'labels': { '$in': ?0 } }")
-  public List<Notification> findByLabelsInIgnoreCase(String[] labels);
-
-  // @Query("{ 'labels': { '$in': ?0 } }")
-  public Page<Notification> findByLabelsInIgnoreCase(String[] labels, Pageable pageable);
-
   public List<Notification> findByStatus(NotificationStatus status);
 
   public Page<Notification> findByStatus(NotificationStatus status, Pageable pageable);
@@ -67,4 +62,17 @@ public interface NotificationDAO extends MongoRepository<Notification, String> {
 
   public List<Notification> findByModifiedBefore(long end);
 
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Notification> findSummariesByCreatedBetween(long start, long end,
+      Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Notification> findSummariesByCreatedAfter(long start, Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Notification> findSummariesByCreatedBefore(long end, Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Notification> findSummariesByStatus(NotificationStatus status, Pageable pageable);
+
 }
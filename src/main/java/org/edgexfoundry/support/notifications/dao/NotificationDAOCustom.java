@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.CloseableIterator;
+
+public interface NotificationDAOCustom {
+
+  public Notification findBySlugIgnoreCase(String slug);
+
+  /**
+   * Read the slugs, and nothing else, of the notifications whose slug matches one of the given
+   * slugs regardless of case.
+   */
+  public List<Notification> findBySlugInIgnoreCase(Collection<String> slugs);
+
+  public List<Notification> findBySenderLikeIgnoreCase(String sender);
+
+  public Page<Notification> findBySenderLikeIgnoreCase(String sender, Pageable pageable);
+
+  public List<Notification> findByLabelsInIgnoreCase(String[] labels);
+
+  public Page<Notification> findByLabelsInIgnoreCase(String[] labels, Pageable pageable);
+
+  /**
+   * Read one page of the notifications of a sender like
+   * {@link #findBySenderLikeIgnoreCase(String)}, without their content.
+   */
+  public List<Notification> findSummariesBySenderLikeIgnoreCase(String sender, Pageable pageable);
+
+  /**
+   * Read one page of the notifications with any of the labels like
+   * {@link #findByLabelsInIgnoreCase(String[])}, without their content.
+   */
+  public List<Notification> findSummariesByLabelsInIgnoreCase(String[] labels, Pageable pageable);
+
+  /**
+   * Read one page of the notifications created within the given range, newest first, starting
+   * after the given cursor (or from the newest one when the cursor is null).
+   */
+  public List<Notification> findByCreatedBetweenAfterCursor(long start, long end,
+      PageCursor cursor, int limit);
+
+  /**
+   * Open a cursor over the notifications created within the given range, oldest first, which
+   * reads them from the database batch by batch as it is iterated. Null labels match any labels.
+   * The caller must close it.
+   */
+  public CloseableIterator<Notification> streamByCreatedBetweenAndLabelsIn(long start, long end,
+      String[] labels);
+
+  /**
+   * Read one page of notifications in id order, starting after the given id (or from the first
+   * one when the id is null).
+   */
+  public List<Notification> findBySeverityAndStatusAfterId(NotificationSeverity severity,
+      NotificationStatus status, String id, int limit);
+
+  /**
+   * Set the status of all notifications with the given ids in one write.
+   *
+   * @return the number of updated notifications
+   */
+  public int updateStatusByIdIn(Collection<String> ids, NotificationStatus status);
+
+  /**
+   * Read the ids, and nothing else, of one chunk of notifications modified before the given time,
+   * in id order and starting after the given id. A null status matches every status.
+   */
+  public List<String> findIdsByStatusAndModifiedBeforeAfterId(NotificationStatus status, long end,
+      String id, int limit);
+
+  /**
+   * Delete the notifications modified before the given time within an inclusive id range. A null
+   * status matches every status.
+   *
+   * @return the number of deleted notifications
+   */
+  public int deleteByStatusAndModifiedBeforeAndIdBetween(NotificationStatus status, long end,
+      String firstId, String lastId);
+
+}
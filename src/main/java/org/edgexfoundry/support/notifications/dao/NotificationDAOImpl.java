@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+public class NotificationDAOImpl implements NotificationDAOCustom {
+
+  private static final String ID_FIELD = "id";
+  private static final String SLUG_FIELD = "slug";
+  private static final String CREATED_FIELD = "created";
+  private static final String STATUS_FIELD = "status";
+  private static final String MODIFIED_FIELD = "modified";
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private RetentionPolicy retentionPolicy;
+
+  @Autowired
+  private NormalizedFieldMigration normalizedFieldMigration;
+
+  @Override
+  public Notification findBySlugIgnoreCase(String slug) {
+    return mongoTemplate.findOne(new Query(NormalizedFields.is(SLUG_FIELD, NormalizedFields.SLUG,
+        slug, normalizedFieldMigration.isCompleted())), Notification.class);
+  }
+
+  @Override
+  public List<Notification> findBySlugInIgnoreCase(Collection<String> slugs) {
+    Query query = new Query(NormalizedFields.in(SLUG_FIELD, NormalizedFields.SLUG,
+        slugs.toArray(), normalizedFieldMigration.isCompleted()));
+    query.fields().include(SLUG_FIELD);
+    return mongoTemplate.find(query, Notification.class);
+  }
+
+  @Override
+  public List<Notification> findBySenderLikeIgnoreCase(String sender) {
+    return mongoTemplate.find(new Query(senderLike(sender)), Notification.class);
+  }
+
+  @Override
+  public Page<Notification> findBySenderLikeIgnoreCase(String sender, Pageable pageable) {
+    return findPage(senderLike(sender), pageable);
+  }
+
+  @Override
+  public List<Notification> findByLabelsInIgnoreCase(String[] labels) {
+    return mongoTemplate.find(new Query(labelsIn(labels)), Notification.class);
+  }
+
+  @Override
+  public Page<Notification> findByLabelsInIgnoreCase(String[] labels, Pageable pageable) {
+    return findPage(labelsIn(labels), pageable);
+  }
+
+  @Override
+  public List<Notification> findSummariesBySenderLikeIgnoreCase(String sender,
+      Pageable pageable) {
+    return findSummaries(senderLike(sender), pageable);
+  }
+
+  @Override
+  public List<Notification> findSummariesByLabelsInIgnoreCase(String[] labels,
+      Pageable pageable) {
+    return findSummaries(labelsIn(labels), pageable);
+  }
+
+  @Override
+  public List<Notification> findByCreatedBetweenAfterCursor(long start, long end,
+      PageCursor cursor, int limit) {
+    return mongoTemplate.find(KeysetQuery.createdBetween(start, end, cursor, limit),
+        Notification.class);
+  }
+
+  @Override
+  public CloseableIterator<Notification> streamByCreatedBetweenAndLabelsIn(long start, long end,
+      String[] labels) {
+    Criteria criteria = Criteria.where(CREATED_FIELD).gte(start).lte(end);
+    if (labels != null) {
+      criteria = new Criteria().andOperator(criteria, labelsIn(labels));
+    }
+    return mongoTemplate.stream(
+        new Query(criteria).with(new Sort(Sort.Direction.ASC, CREATED_FIELD)), Notification.class);
+  }
+
+  @Override
+  public List<Notification> findBySeverityAndStatusAfterId(NotificationSeverity severity,
+      NotificationStatus status, String id, int limit) {
+    Criteria criteria = Criteria.where("severity").is(severity).and(STATUS_FIELD).is(status);
+    if (id != null) {
+      criteria = criteria.and(ID_FIELD).gt(objectId(id));
+    }
+    Query query = new Query(criteria).with(new Sort(Sort.Direction.ASC, ID_FIELD)).limit(limit);
+    return mongoTemplate.find(query, Notification.class);
+  }
+
+  @Override
+  public int updateStatusByIdIn(Collection<String> ids, NotificationStatus status) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    long modified = System.currentTimeMillis();
+    Update update = Update.update(STATUS_FIELD, status).set(MODIFIED_FIELD, modified);
+    if (retentionPolicy.isEnabled()) {
+      Date expiry = retentionPolicy.getExpiry(status, modified);
+      if (expiry == null) {
+        update.unset(RetentionPolicy.EXPIRY_FIELD);
+      } else {
+        update.set(RetentionPolicy.EXPIRY_FIELD, expiry);
+      }
+    }
+    return mongoTemplate.updateMulti(new Query(Criteria.where(ID_FIELD).in(ids)), update,
+        Notification.class).getN();
+  }
+
+  @Override
+  public List<String> findIdsByStatusAndModifiedBeforeAfterId(NotificationStatus status, long end,
+      String id, int limit) {
+    Criteria criteria = modifiedBefore(status, end);
+    if (id != null) {
+      criteria = criteria.and(ID_FIELD).gt(objectId(id));
+    }
+    Query query = new Query(criteria).with(new Sort(Sort.Direction.ASC, ID_FIELD)).limit(limit);
+    query.fields().include(ID_FIELD);
+    return mongoTemplate.find(query, Notification.class).stream().map(Notification::getId)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public int deleteByStatusAndModifiedBeforeAndIdBetween(NotificationStatus status, long end,
+      String firstId, String lastId) {
+    Criteria criteria = modifiedBefore(status, end).and(ID_FIELD).gte(objectId(firstId))
+        .lte(objectId(lastId));
+    return mongoTemplate.remove(new Query(criteria), Notification.class).getN();
+  }
+
+  private Criteria senderLike(String sender) {
+    return NormalizedFields.like("sender", NormalizedFields.SENDER, sender,
+        normalizedFieldMigration.isCompleted());
+  }
+
+  private Criteria labelsIn(String[] labels) {
+    return NormalizedFields.in("labels", NormalizedFields.LABELS, labels,
+        normalizedFieldMigration.isCompleted());
+  }
+
+  private Page<Notification> findPage(Criteria criteria, Pageable pageable) {
+    long total = mongoTemplate.count(new Query(criteria), Notification.class);
+    List<Notification> content =
+        mongoTemplate.find(new Query(criteria).with(pageable), Notification.class);
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  private List<Notification> findSummaries(Criteria criteria, Pageable pageable) {
+    Query query = new Query(criteria).with(pageable);
+    query.fields().exclude("content");
+    return mongoTemplate.find(query, Notification.class);
+  }
+
+  private Criteria modifiedBefore(NotificationStatus status, long end) {
+    Criteria criteria = Criteria.where(MODIFIED_FIELD).lt(end);
+    if (status != null) {
+      criteria = criteria.and(STATUS_FIELD).is(status);
+    }
+    return criteria;
+  }
+
+  // range operators are not converted by the query mapper, and a string never compares to the
+  // ObjectId stored in _id
+  private static Object objectId(String id) {
+    return ObjectId.isValid(id) ? new ObjectId(id) : id;
+  }
+
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+
+public interface OccurrenceDAOCustom {
+
+  /**
+   * Count occurrences of the given fingerprint against its latest stored notification, if that
+   * one last occurred at or after since, and move its last occurrence to now and its expiry to
+   * expireAt.
+   *
+   * @return the updated occurrence, or null when no notification with the fingerprint occurred
+   *         since then
+   */
+  public Occurrence addOccurrences(String fingerprint, long since, int count, long now,
+      Date expireAt);
+
+  /**
+   * Set the expiry of the occurrences stored without one.
+   *
+   * @return the number of occurrences updated
+   */
+  public int expireUndated(Date expireAt);
+
+}
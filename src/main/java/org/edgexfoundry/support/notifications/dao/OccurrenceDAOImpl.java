@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class OccurrenceDAOImpl implements OccurrenceDAOCustom {
+
+  private static final String FINGERPRINT_FIELD = "fingerprint";
+  private static final String COUNT_FIELD = "count";
+  private static final String LAST_OCCURRED_FIELD = "lastOccurred";
+  private static final String EXPIRE_AT_FIELD = "expireAt";
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  /**
+   * One atomic findAndModify, so that concurrent repeats are all counted against the same stored
+   * notification.
+   */
+  @Override
+  public Occurrence addOccurrences(String fingerprint, long since, int count, long now,
+      Date expireAt) {
+    Query query = new Query(
+        Criteria.where(FINGERPRINT_FIELD).is(fingerprint).and(LAST_OCCURRED_FIELD).gte(since))
+            .with(new Sort(Sort.Direction.DESC, LAST_OCCURRED_FIELD));
+    Update update = new Update().inc(COUNT_FIELD, count).set(LAST_OCCURRED_FIELD, now)
+        .set(EXPIRE_AT_FIELD, expireAt);
+    return mongoTemplate.findAndModify(query, update, new FindAndModifyOptions().returnNew(true),
+        Occurrence.class);
+  }
+
+  @Override
+  public int expireUndated(Date expireAt) {
+    return mongoTemplate.updateMulti(new Query(Criteria.where(EXPIRE_AT_FIELD).exists(false)),
+        Update.update(EXPIRE_AT_FIELD, expireAt), Occurrence.class).getN();
+  }
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.edgexfoundry.support.notifications.domain.ResendQueueItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class ResendQueueDAOImpl implements ResendQueueDAOCustom {
+
+  private static final String ID_FIELD = "id";
+  private static final String TRANSMISSION_ID_FIELD = "transmissionId";
+  private static final String NEXT_ATTEMPT_FIELD = "nextAttempt";
+  private static final String CLAIM_TOKEN_FIELD = "claimToken";
+  private static final String LEASE_EXPIRY_FIELD = "leaseExpiry";
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Override
+  public void upsertByTransmissionId(String transmissionId, long nextAttempt) {
+    Update update = Update.update(NEXT_ATTEMPT_FIELD, nextAttempt).set(LEASE_EXPIRY_FIELD, 0L)
+        .unset(CLAIM_TOKEN_FIELD).setOnInsert("created", System.currentTimeMillis());
+    mongoTemplate.upsert(new Query(Criteria.where(TRANSMISSION_ID_FIELD).is(transmissionId)),
+        update, ResendQueueItem.class);
+  }
+
+  /**
+   * Claim in two steps: the due ids are read first, then leased with one update which only
+   * matches the ones still free. The random claim token tells which items this call won when
+   * several pollers race for the same ones.
+   */
+  @Override
+  public List<ResendQueueItem> claimDue(long now, long leaseExpiry, int limit) {
+    Criteria due = Criteria.where(NEXT_ATTEMPT_FIELD).lte(now).and(LEASE_EXPIRY_FIELD).lte(now);
+    Query query =
+        new Query(due).with(new Sort(Sort.Direction.ASC, NEXT_ATTEMPT_FIELD)).limit(limit);
+    query.fields().include(ID_FIELD);
+    List<ResendQueueItem> candidates = mongoTemplate.find(query, ResendQueueItem.class);
+    if (candidates.isEmpty()) {
+      return candidates;
+    }
+
+    List<String> ids = new ArrayList<>(candidates.size());
+    for (ResendQueueItem candidate : candidates) {
+      ids.add(candidate.getId());
+    }
+    String claimToken = UUID.randomUUID().toString();
+    mongoTemplate.updateMulti(
+        new Query(Criteria.where(ID_FIELD).in(ids).and(LEASE_EXPIRY_FIELD).lte(now)),
+        Update.update(CLAIM_TOKEN_FIELD, claimToken).set(LEASE_EXPIRY_FIELD, leaseExpiry),
+        ResendQueueItem.class);
+    return mongoTemplate.find(new Query(Criteria.where(CLAIM_TOKEN_FIELD).is(claimToken)),
+        ResendQueueItem.class);
+  }
+
+}
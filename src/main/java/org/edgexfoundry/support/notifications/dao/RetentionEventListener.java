@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.DBObject;
+
+/**
+ * Stamps the expiry date on every notification and transmission written through the repositories,
+ * so that the TTL indexes follow status changes. The date is part of the stored document only; the
+ * domain objects do not know about it.
+ */
+@Component
+public class RetentionEventListener extends AbstractMongoEventListener<Object> {
+
+  private static final String MODIFIED_FIELD = "modified";
+
+  @Autowired
+  private RetentionPolicy retentionPolicy;
+
+  @Override
+  public void onBeforeSave(BeforeSaveEvent<Object> event) {
+    if (!retentionPolicy.isEnabled()) {
+      return;
+    }
+
+    Object source = event.getSource();
+    DBObject dbo = event.getDBObject();
+    Object modified = dbo.get(MODIFIED_FIELD);
+    long from = modified instanceof Number ? ((Number) modified).longValue()
+        : System.currentTimeMillis();
+
+    Date expiry;
+    if (source instanceof Notification) {
+      expiry = retentionPolicy.getExpiry(((Notification) source).getStatus(), from);
+    } else if (source instanceof Transmission) {
+      expiry = retentionPolicy.getExpiry(((Transmission) source).getStatus(), from);
+    } else {
+      return;
+    }
+
+    if (expiry == null) {
+      dbo.removeField(RetentionPolicy.EXPIRY_FIELD);
+    } else {
+      dbo.put(RetentionPolicy.EXPIRY_FIELD, expiry);
+    }
+  }
+
+}
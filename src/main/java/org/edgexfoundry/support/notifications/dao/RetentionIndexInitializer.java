@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.Date;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the TTL indexes of the notification and transmission collections at startup when the
+ * retention mode is enabled, and drops them again when it is disabled. Settled documents written
+ * before the mode was enabled carry no expiry date yet; they get one counted from now, so that
+ * they expire no earlier than their retention period.
+ */
+@Component
+public class RetentionIndexInitializer {
+
+  private static final String STATUS_FIELD = "status";
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private RetentionPolicy retentionPolicy;
+
+  @PostConstruct
+  public void init() {
+    try {
+      if (retentionPolicy.isEnabled()) {
+        ensureTtlIndex(Notification.class);
+        ensureTtlIndex(Transmission.class);
+        long now = System.currentTimeMillis();
+        for (NotificationStatus status : NotificationStatus.values()) {
+          stampUnexpiring(Notification.class, status, retentionPolicy.getExpiry(status, now));
+        }
+        for (TransmissionStatus status : TransmissionStatus.values()) {
+          stampUnexpiring(Transmission.class, status, retentionPolicy.getExpiry(status, now));
+        }
+      } else {
+        dropTtlIndex(Notification.class);
+        dropTtlIndex(Transmission.class);
+      }
+    } catch (Exception e) {
+      logger.error("retention indexes cannot be set up: " + e.getMessage(), e);
+    }
+  }
+
+  private void ensureTtlIndex(Class<?> entityClass) {
+    mongoTemplate.indexOps(entityClass)
+        .ensureIndex(new Index().on(RetentionPolicy.EXPIRY_FIELD, Sort.Direction.ASC).expire(0)
+            .named(RetentionPolicy.TTL_INDEX_NAME));
+    logger.info("TTL index is ensured on " + mongoTemplate.getCollectionName(entityClass));
+  }
+
+  private void dropTtlIndex(Class<?> entityClass) {
+    IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+    if (indexOps.getIndexInfo().stream()
+        .anyMatch(index -> RetentionPolicy.TTL_INDEX_NAME.equals(index.getName()))) {
+      indexOps.dropIndex(RetentionPolicy.TTL_INDEX_NAME);
+      logger.info("TTL index is dropped from " + mongoTemplate.getCollectionName(entityClass));
+    }
+  }
+
+  private void stampUnexpiring(Class<?> entityClass, Enum<?> status, Date expiry) {
+    if (expiry == null) {
+      return;
+    }
+    Query query = new Query(Criteria.where(STATUS_FIELD).is(status.name())
+        .and(RetentionPolicy.EXPIRY_FIELD).exists(false));
+    int stamped = mongoTemplate
+        .updateMulti(query, Update.update(RetentionPolicy.EXPIRY_FIELD, expiry), entityClass)
+        .getN();
+    if (stamped > 0) {
+      logger.info(stamped + " " + status + " document(s) of "
+          + mongoTemplate.getCollectionName(entityClass) + " will expire at " + expiry);
+    }
+  }
+
+}
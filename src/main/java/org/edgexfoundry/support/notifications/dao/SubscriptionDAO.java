@@ -18,20 +18,10 @@
 
 package org.edgexfoundry.support.notifications.dao;
 
-import java.util.List;
-
 import org.edgexfoundry.support.domain.notifications.Subscription;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface SubscriptionDAO extends MongoRepository<Subscription, String> {
-
-  // @Query("{ '$or': [ { 'subscribedCategories': { '$in': ?0 } }, { 'subscribedLabels': { '$in': ?1
-  // } } ] }")
-  public List<Subscription> findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
-      String[] categories, String[] labels);
-
-  public Subscription findBySlugIgnoreCase(String slug);
-
-  public List<Subscription> findByReceiverLikeIgnoreCase(String receiver);
+public interface SubscriptionDAO
+    extends MongoRepository<Subscription, String>, SubscriptionDAOCustom {
 
 }
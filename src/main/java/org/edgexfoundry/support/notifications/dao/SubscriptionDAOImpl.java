@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.List;
+
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class SubscriptionDAOImpl implements SubscriptionDAOCustom {
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private NormalizedFieldMigration normalizedFieldMigration;
+
+  @Override
+  public List<Subscription> findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+      String[] categories, String[] labels) {
+    boolean normalized = normalizedFieldMigration.isCompleted();
+    Criteria criteria = new Criteria().orOperator(
+        NormalizedFields.in("subscribedCategories", NormalizedFields.SUBSCRIBED_CATEGORIES,
+            categories, normalized),
+        NormalizedFields.in("subscribedLabels", NormalizedFields.SUBSCRIBED_LABELS, labels,
+            normalized));
+    return mongoTemplate.find(new Query(criteria), Subscription.class);
+  }
+
+  @Override
+  public Subscription findBySlugIgnoreCase(String slug) {
+    return mongoTemplate.findOne(new Query(NormalizedFields.is("slug", NormalizedFields.SLUG, slug,
+        normalizedFieldMigration.isCompleted())), Subscription.class);
+  }
+
+  @Override
+  public List<Subscription> findByReceiverLikeIgnoreCase(String receiver) {
+    return mongoTemplate.find(new Query(NormalizedFields.like("receiver", NormalizedFields.RECEIVER,
+        receiver, normalizedFieldMigration.isCompleted())), Subscription.class);
+  }
+
+}
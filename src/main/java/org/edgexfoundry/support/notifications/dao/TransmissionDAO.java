@@ -27,8 +27,16 @@ import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-public interface TransmissionDAO extends MongoRepository<Transmission, String> {
+public interface TransmissionDAO
+    extends MongoRepository<Transmission, String>, TransmissionDAOCustom {
+
+  /**
+   * Projection of the summary listings, which leave out the notification and all but the latest
+   * transmission record. See {@link #attachNotificationSummaries(List)} for the notification.
+   */
+  public static final String SUMMARY_FIELDS = "{ 'notification': 0, 'records': { '$slice': -1 } }";
 
   public List<Transmission> findByCreatedBetween(long start, long end);
 
@@ -60,9 +68,28 @@ public interface TransmissionDAO extends MongoRepository<Transmission, String> {
 
   public void deleteByNotificationId(String notificationId);
 
+  public Long deleteByNotificationIdIn(Collection<String> notificationIds);
+
   public void deleteByStatusAndModifiedBefore(TransmissionStatus status, long end);
 
   public void deleteByStatusAndResendCountGreaterThanEqualAndModifiedBefore(
       TransmissionStatus status, int resendCount, long end);
 
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Transmission> findSummariesByCreatedBetween(long start, long end,
+      Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Transmission> findSummariesByCreatedAfter(long start, Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Transmission> findSummariesByCreatedBefore(long end, Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Transmission> findSummariesByNotificationId(String notificationId,
+      Pageable pageable);
+
+  @Query(fields = SUMMARY_FIELDS)
+  public List<Transmission> findSummariesByStatus(TransmissionStatus status, Pageable pageable);
+
 }
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.List;
+
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.springframework.data.util.CloseableIterator;
+
+public interface TransmissionDAOCustom {
+
+  /**
+   * Read one page of the transmissions created within the given range, newest first, starting
+   * after the given cursor (or from the newest one when the cursor is null).
+   */
+  public List<Transmission> findByCreatedBetweenAfterCursor(long start, long end,
+      PageCursor cursor, int limit);
+
+  /**
+   * Open a cursor over the transmissions created within the given range, oldest first, which
+   * reads them from the database batch by batch as it is iterated. A null status matches every
+   * status. The caller must close it.
+   */
+  public CloseableIterator<Transmission> streamByCreatedBetweenAndStatus(long start, long end,
+      TransmissionStatus status);
+
+  /**
+   * Log one more delivery attempt of a transmission with a partial update: the record is pushed
+   * to the end of its records, the resend count incremented, the status set and its lease
+   * released, without reading or rewriting the rest of the document. Returns the number of
+   * transmissions updated, which is 0 when the transmission does not exist any more.
+   */
+  public int appendRecord(String id, TransmissionRecord record, TransmissionStatus status,
+      long modified);
+
+  /**
+   * Claim up to limit failed transmissions which may still be resent and are not leased, leasing
+   * each of them to the owner until the lease expiry with one findAndModify, so that no other
+   * claim takes it until it is resent or the lease expires. Only transmissions last modified
+   * before the given time are claimed, which keeps a resend that failed again from being claimed
+   * twice within one run.
+   */
+  public List<Transmission> claimFailed(int resendLimit, long modifiedBefore, String owner,
+      long now, long leaseExpiry, int limit);
+
+  /**
+   * Release the claim of a failed transmission whose resend has been postponed, leasing it to no
+   * owner until the given time so that no claim takes it before. Its resend count is left as it
+   * is. Returns the number of transmissions updated.
+   */
+  public int deferById(String id, long until);
+
+  /**
+   * Set the status of a transmission with a partial update. Returns the number of transmissions
+   * updated.
+   */
+  public int updateStatusById(String id, TransmissionStatus status, long modified);
+
+  /**
+   * Set the notification of transmissions read without it to a summary holding only the id and
+   * slug of the notification. The summaries of all the transmissions are read with one query.
+   */
+  public void attachNotificationSummaries(List<Transmission> transmissions);
+
+}
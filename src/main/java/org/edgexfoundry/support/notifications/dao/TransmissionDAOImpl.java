@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+public class TransmissionDAOImpl implements TransmissionDAOCustom {
+
+  private static final String CREATED_FIELD = "created";
+  private static final String NOTIFICATION_FIELD = "notification";
+  private static final String STATUS_FIELD = "status";
+  private static final String MODIFIED_FIELD = "modified";
+  private static final String CLAIM_OWNER_FIELD = "claimOwner";
+  private static final String LEASE_EXPIRY_FIELD = "leaseExpiry";
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private RetentionPolicy retentionPolicy;
+
+  @Override
+  public List<Transmission> findByCreatedBetweenAfterCursor(long start, long end,
+      PageCursor cursor, int limit) {
+    return mongoTemplate.find(KeysetQuery.createdBetween(start, end, cursor, limit),
+        Transmission.class);
+  }
+
+  @Override
+  public CloseableIterator<Transmission> streamByCreatedBetweenAndStatus(long start, long end,
+      TransmissionStatus status) {
+    Criteria criteria = Criteria.where(CREATED_FIELD).gte(start).lte(end);
+    if (status != null) {
+      criteria = criteria.and(STATUS_FIELD).is(status);
+    }
+    return mongoTemplate.stream(
+        new Query(criteria).with(new Sort(Sort.Direction.ASC, CREATED_FIELD)), Transmission.class);
+  }
+
+  @Override
+  public int appendRecord(String id, TransmissionRecord record, TransmissionStatus status,
+      long modified) {
+    Update update = statusUpdate(status, modified).push("records", record).inc("resendCount", 1)
+        .unset(CLAIM_OWNER_FIELD).unset(LEASE_EXPIRY_FIELD);
+    return mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)), update,
+        Transmission.class).getN();
+  }
+
+  @Override
+  public List<Transmission> claimFailed(int resendLimit, long modifiedBefore, String owner,
+      long now, long leaseExpiry, int limit) {
+    // an unleased transmission has no lease expiry at all, which $not $gt matches as well
+    Query query = new Query(Criteria.where(STATUS_FIELD).is(TransmissionStatus.FAILED)
+        .and("resendCount").lt(resendLimit).and(MODIFIED_FIELD).lt(modifiedBefore)
+        .and(LEASE_EXPIRY_FIELD).not().gt(now));
+    Update update = Update.update(CLAIM_OWNER_FIELD, owner).set(LEASE_EXPIRY_FIELD, leaseExpiry);
+    FindAndModifyOptions options = new FindAndModifyOptions().returnNew(true);
+
+    List<Transmission> claimed = new ArrayList<>();
+    while (claimed.size() < limit) {
+      Transmission transmission =
+          mongoTemplate.findAndModify(query, update, options, Transmission.class);
+      if (transmission == null) {
+        break;
+      }
+      claimed.add(transmission);
+    }
+    return claimed;
+  }
+
+  @Override
+  public int deferById(String id, long until) {
+    Update update = new Update().unset(CLAIM_OWNER_FIELD).set(LEASE_EXPIRY_FIELD, until);
+    return mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)), update,
+        Transmission.class).getN();
+  }
+
+  @Override
+  public int updateStatusById(String id, TransmissionStatus status, long modified) {
+    return mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)),
+        statusUpdate(status, modified), Transmission.class).getN();
+  }
+
+  /**
+   * Partial updates bypass the save listeners, so the expiry of the retention mode is set along
+   * with the status here.
+   */
+  private Update statusUpdate(TransmissionStatus status, long modified) {
+    Update update = Update.update(STATUS_FIELD, status).set(MODIFIED_FIELD, modified);
+    if (retentionPolicy.isEnabled()) {
+      Date expiry = retentionPolicy.getExpiry(status, modified);
+      if (expiry == null) {
+        update.unset(RetentionPolicy.EXPIRY_FIELD);
+      } else {
+        update.set(RetentionPolicy.EXPIRY_FIELD, expiry);
+      }
+    }
+    return update;
+  }
+
+  @Override
+  public void attachNotificationSummaries(List<Transmission> transmissions) {
+    if (transmissions.isEmpty()) {
+      return;
+    }
+
+    List<Object> ids = new ArrayList<>(transmissions.size());
+    for (Transmission transmission : transmissions) {
+      String id = transmission.getId();
+      ids.add(ObjectId.isValid(id) ? new ObjectId(id) : id);
+    }
+    Map<String, String> notificationIds = new HashMap<>();
+    String collection = mongoTemplate.getCollectionName(Transmission.class);
+    DBCursor cursor = mongoTemplate.getCollection(collection).find(
+        new BasicDBObject("_id", new BasicDBObject("$in", ids)),
+        new BasicDBObject(NOTIFICATION_FIELD, 1));
+    try {
+      while (cursor.hasNext()) {
+        DBObject document = cursor.next();
+        Object notificationId = notificationIdOf(document.get(NOTIFICATION_FIELD));
+        if (notificationId != null) {
+          notificationIds.put(document.get("_id").toString(), notificationId.toString());
+        }
+      }
+    } finally {
+      cursor.close();
+    }
+
+    Query query = new Query(Criteria.where("id").in(new HashSet<>(notificationIds.values())));
+    query.fields().include("slug");
+    Map<String, Notification> summaries = new HashMap<>();
+    for (Notification summary : mongoTemplate.find(query, Notification.class)) {
+      summaries.put(summary.getId(), summary);
+    }
+    for (Transmission transmission : transmissions) {
+      transmission.setNotification(summaries.get(notificationIds.get(transmission.getId())));
+    }
+  }
+
+  /**
+   * The notification is stored as a reference or, in older documents, embedded.
+   */
+  private static Object notificationIdOf(Object notification) {
+    if (notification instanceof DBRef) {
+      return ((DBRef) notification).getId();
+    }
+    if (notification instanceof DBObject) {
+      return ((DBObject) notification).get("_id");
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+/**
+ * Outcome of one item of a batch request, reported at the same index as the item in the request.
+ * A SUPPRESSED item names the stored notification it was counted against in repeatOf; a
+ * RATE_LIMITED item tells in retryAfter how many milliseconds its sender has to wait.
+ */
+public class BatchItemResult {
+
+  public enum Status {
+    ACCEPTED, INVALID, DUPLICATED, SUPPRESSED, RATE_LIMITED, FAILED
+  }
+
+  private int index;
+  private String slug;
+  private Status status;
+  private String message;
+  private String repeatOf;
+  private long retryAfter;
+
+  public BatchItemResult() {
+    super();
+  }
+
+  public BatchItemResult(int index, String slug) {
+    this.index = index;
+    this.slug = slug;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public String getSlug() {
+    return slug;
+  }
+
+  public void setSlug(String slug) {
+    this.slug = slug;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public String getRepeatOf() {
+    return repeatOf;
+  }
+
+  public void setRepeatOf(String repeatOf) {
+    this.repeatOf = repeatOf;
+  }
+
+  public long getRetryAfter() {
+    return retryAfter;
+  }
+
+  public void setRetryAfter(long retryAfter) {
+    this.retryAfter = retryAfter;
+  }
+
+  public void accept() {
+    this.status = Status.ACCEPTED;
+    this.message = null;
+  }
+
+  public void reject(Status status, String message) {
+    this.status = status;
+    this.message = message;
+  }
+
+  @Override
+  public String toString() {
+    return "BatchItemResult [index=" + index + ", slug=" + slug + ", status=" + status
+        + ", message=" + message + ", repeatOf=" + repeatOf + ", retryAfter=" + retryAfter + "]";
+  }
+
+}
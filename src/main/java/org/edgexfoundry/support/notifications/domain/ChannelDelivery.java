@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import org.edgexfoundry.support.domain.notifications.Channel;
+
+/**
+ * One channel of a subscription that a notification is to be delivered to, together with the
+ * receiver of the subscription, which its transmission is recorded for.
+ */
+public class ChannelDelivery {
+
+  private Channel channel;
+  private String receiver;
+
+  public ChannelDelivery() {
+    super();
+  }
+
+  public ChannelDelivery(Channel channel, String receiver) {
+    this.channel = channel;
+    this.receiver = receiver;
+  }
+
+  public Channel getChannel() {
+    return channel;
+  }
+
+  public void setChannel(Channel channel) {
+    this.channel = channel;
+  }
+
+  public String getReceiver() {
+    return receiver;
+  }
+
+  public void setReceiver(String receiver) {
+    this.receiver = receiver;
+  }
+
+  @Override
+  public String toString() {
+    return "ChannelDelivery [channel=" + channel + ", receiver=" + receiver + "]";
+  }
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+public class CircuitBreakerStatus {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private String endpoint;
+  private State state;
+  private int consecutiveFailures;
+  private long openedAt;
+  private long rejectedCount;
+
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  public void setEndpoint(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public void setState(State state) {
+    this.state = state;
+  }
+
+  public int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  public void setConsecutiveFailures(int consecutiveFailures) {
+    this.consecutiveFailures = consecutiveFailures;
+  }
+
+  public long getOpenedAt() {
+    return openedAt;
+  }
+
+  public void setOpenedAt(long openedAt) {
+    this.openedAt = openedAt;
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  public void setRejectedCount(long rejectedCount) {
+    this.rejectedCount = rejectedCount;
+  }
+
+  @Override
+  public String toString() {
+    return "CircuitBreakerStatus [endpoint=" + endpoint + ", state=" + state
+        + ", consecutiveFailures=" + consecutiveFailures + ", openedAt=" + openedAt
+        + ", rejectedCount=" + rejectedCount + "]";
+  }
+
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+
+/**
+ * Progress of the latest cleanup run. The notification status is null when the run purges
+ * notifications of any status.
+ */
+public class CleanupStatus {
+
+  public enum State {
+    IDLE, RUNNING, COMPLETED, FAILED
+  }
+
+  private State state = State.IDLE;
+  private NotificationStatus notificationStatus;
+  private long modifiedBefore;
+  private long started;
+  private long finished;
+  private int batches;
+  private long notificationsDeleted;
+  private long transmissionsDeleted;
+  private String message;
+
+  public CleanupStatus() {
+    super();
+  }
+
+  public CleanupStatus(CleanupStatus other) {
+    this.state = other.state;
+    this.notificationStatus = other.notificationStatus;
+    this.modifiedBefore = other.modifiedBefore;
+    this.started = other.started;
+    this.finished = other.finished;
+    this.batches = other.batches;
+    this.notificationsDeleted = other.notificationsDeleted;
+    this.transmissionsDeleted = other.transmissionsDeleted;
+    this.message = other.message;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public void setState(State state) {
+    this.state = state;
+  }
+
+  public NotificationStatus getNotificationStatus() {
+    return notificationStatus;
+  }
+
+  public void setNotificationStatus(NotificationStatus notificationStatus) {
+    this.notificationStatus = notificationStatus;
+  }
+
+  public long getModifiedBefore() {
+    return modifiedBefore;
+  }
+
+  public void setModifiedBefore(long modifiedBefore) {
+    this.modifiedBefore = modifiedBefore;
+  }
+
+  public long getStarted() {
+    return started;
+  }
+
+  public void setStarted(long started) {
+    this.started = started;
+  }
+
+  public long getFinished() {
+    return finished;
+  }
+
+  public void setFinished(long finished) {
+    this.finished = finished;
+  }
+
+  public int getBatches() {
+    return batches;
+  }
+
+  public void setBatches(int batches) {
+    this.batches = batches;
+  }
+
+  public long getNotificationsDeleted() {
+    return notificationsDeleted;
+  }
+
+  public void setNotificationsDeleted(long notificationsDeleted) {
+    this.notificationsDeleted = notificationsDeleted;
+  }
+
+  public long getTransmissionsDeleted() {
+    return transmissionsDeleted;
+  }
+
+  public void setTransmissionsDeleted(long transmissionsDeleted) {
+    this.transmissionsDeleted = transmissionsDeleted;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  public String toString() {
+    return "CleanupStatus [state=" + state + ", notificationStatus=" + notificationStatus
+        + ", modifiedBefore=" + modifiedBefore + ", started=" + started + ", finished=" + finished
+        + ", batches=" + batches + ", notificationsDeleted=" + notificationsDeleted
+        + ", transmissionsDeleted=" + transmissionsDeleted + ", message=" + message + "]";
+  }
+
+}
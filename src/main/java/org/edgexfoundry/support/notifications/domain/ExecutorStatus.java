@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+public class ExecutorStatus {
+
+  private String name;
+  private int corePoolSize;
+  private int maxPoolSize;
+  private int poolSize;
+  private int activeCount;
+  private int queueSize;
+  private int queueCapacity;
+  private long completedTaskCount;
+  private long rejectedCount;
+  private String rejectionPolicy;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getCorePoolSize() {
+    return corePoolSize;
+  }
+
+  public void setCorePoolSize(int corePoolSize) {
+    this.corePoolSize = corePoolSize;
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public void setMaxPoolSize(int maxPoolSize) {
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public int getActiveCount() {
+    return activeCount;
+  }
+
+  public void setActiveCount(int activeCount) {
+    this.activeCount = activeCount;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public long getCompletedTaskCount() {
+    return completedTaskCount;
+  }
+
+  public void setCompletedTaskCount(long completedTaskCount) {
+    this.completedTaskCount = completedTaskCount;
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  public void setRejectedCount(long rejectedCount) {
+    this.rejectedCount = rejectedCount;
+  }
+
+  public String getRejectionPolicy() {
+    return rejectionPolicy;
+  }
+
+  public void setRejectionPolicy(String rejectionPolicy) {
+    this.rejectionPolicy = rejectionPolicy;
+  }
+
+  @Override
+  public String toString() {
+    return "ExecutorStatus [name=" + name + ", poolSize=" + poolSize + ", activeCount="
+        + activeCount + ", queueSize=" + queueSize + ", queueCapacity=" + queueCapacity
+        + ", rejectedCount=" + rejectedCount + "]";
+  }
+
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+/**
+ * An index of a collection compared with the ones the query paths of the service need. Accesses
+ * are counted by the database since its last restart, or -1 when the database cannot tell.
+ */
+public class IndexStatus {
+
+  public enum State {
+    PRESENT, MISSING, UNDECLARED
+  }
+
+  private String collection;
+  private String name;
+  private String keys;
+  private State state;
+  private long accesses = -1;
+  private boolean unused;
+
+  public IndexStatus() {
+    super();
+  }
+
+  public IndexStatus(String collection, String name, String keys, State state) {
+    this.collection = collection;
+    this.name = name;
+    this.keys = keys;
+    this.state = state;
+  }
+
+  public String getCollection() {
+    return collection;
+  }
+
+  public void setCollection(String collection) {
+    this.collection = collection;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getKeys() {
+    return keys;
+  }
+
+  public void setKeys(String keys) {
+    this.keys = keys;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public void setState(State state) {
+    this.state = state;
+  }
+
+  public long getAccesses() {
+    return accesses;
+  }
+
+  public void setAccesses(long accesses) {
+    this.accesses = accesses;
+  }
+
+  public boolean isUnused() {
+    return unused;
+  }
+
+  public void setUnused(boolean unused) {
+    this.unused = unused;
+  }
+
+  @Override
+  public String toString() {
+    return "IndexStatus [collection=" + collection + ", name=" + name + ", keys=" + keys
+        + ", state=" + state + ", accesses=" + accesses + ", unused=" + unused + "]";
+  }
+
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import java.util.Date;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * How often a stored notification has been received. Repeats of a notification, the notifications
+ * with the same fingerprint, which arrive within the suppression window after its last occurrence
+ * are not stored themselves but counted here. The id is the id of the stored notification. MongoDB
+ * expires the occurrence at expireAt, a while after the window of its last occurrence has closed.
+ */
+@Document(collection = "occurrence")
+@CompoundIndex(name = "window", def = "{'fingerprint': 1, 'lastOccurred': -1}")
+public class Occurrence {
+
+  @Id
+  private String id;
+
+  private String slug;
+
+  private String fingerprint;
+
+  private long count;
+
+  private long firstOccurred;
+
+  private long lastOccurred;
+
+  @JsonIgnore
+  @Indexed(expireAfterSeconds = 0)
+  private Date expireAt;
+
+  public Occurrence() {
+    super();
+  }
+
+  public Occurrence(String id, String slug, String fingerprint, long count, long occurred) {
+    this.id = id;
+    this.slug = slug;
+    this.fingerprint = fingerprint;
+    this.count = count;
+    this.firstOccurred = occurred;
+    this.lastOccurred = occurred;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getSlug() {
+    return slug;
+  }
+
+  public void setSlug(String slug) {
+    this.slug = slug;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public void setCount(long count) {
+    this.count = count;
+  }
+
+  public long getFirstOccurred() {
+    return firstOccurred;
+  }
+
+  public void setFirstOccurred(long firstOccurred) {
+    this.firstOccurred = firstOccurred;
+  }
+
+  public long getLastOccurred() {
+    return lastOccurred;
+  }
+
+  public void setLastOccurred(long lastOccurred) {
+    this.lastOccurred = lastOccurred;
+  }
+
+  public Date getExpireAt() {
+    return expireAt;
+  }
+
+  public void setExpireAt(Date expireAt) {
+    this.expireAt = expireAt;
+  }
+
+  @Override
+  public String toString() {
+    return "Occurrence [id=" + id + ", slug=" + slug + ", fingerprint=" + fingerprint + ", count="
+        + count + ", firstOccurred=" + firstOccurred + ", lastOccurred=" + lastOccurred + "]";
+  }
+
+}
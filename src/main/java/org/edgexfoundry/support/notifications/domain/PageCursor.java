@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last item of a page in (created DESC, id DESC) order. Clients receive it as an
+ * opaque token and hand it back to read the next page, which then starts right after that item
+ * through the index instead of skipping over all the items before it.
+ */
+public class PageCursor {
+
+  private static final char SEPARATOR = ':';
+
+  private final long created;
+  private final String id;
+
+  public PageCursor(long created, String id) {
+    this.created = created;
+    this.id = id;
+  }
+
+  public long getCreated() {
+    return created;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((Long.toString(created) + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the cursor, or null for a null token
+   * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+   */
+  public static PageCursor decode(String token) {
+    if (token == null) {
+      return null;
+    }
+    String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    int separator = value.indexOf(SEPARATOR);
+    if (separator <= 0 || separator == value.length() - 1) {
+      throw new IllegalArgumentException("malformed page cursor: " + token);
+    }
+    return new PageCursor(Long.parseLong(value.substring(0, separator)),
+        value.substring(separator + 1));
+  }
+
+  @Override
+  public String toString() {
+    return "PageCursor [created=" + created + ", id=" + id + "]";
+  }
+
+}
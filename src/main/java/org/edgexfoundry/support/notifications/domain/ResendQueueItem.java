@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A pending resend of a transmission, due at nextAttempt. While a poller works on it, the item is
+ * leased to the poller's claim token until leaseExpiry, after which another poller may claim it
+ * again.
+ */
+@Document(collection = "resendQueue")
+@CompoundIndex(name = "due", def = "{'nextAttempt': 1, 'leaseExpiry': 1}")
+public class ResendQueueItem {
+
+  @Id
+  private String id;
+
+  @Indexed(unique = true)
+  private String transmissionId;
+
+  private long nextAttempt;
+
+  @Indexed(sparse = true)
+  private String claimToken;
+
+  private long leaseExpiry;
+
+  private long created;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getTransmissionId() {
+    return transmissionId;
+  }
+
+  public void setTransmissionId(String transmissionId) {
+    this.transmissionId = transmissionId;
+  }
+
+  public long getNextAttempt() {
+    return nextAttempt;
+  }
+
+  public void setNextAttempt(long nextAttempt) {
+    this.nextAttempt = nextAttempt;
+  }
+
+  public String getClaimToken() {
+    return claimToken;
+  }
+
+  public void setClaimToken(String claimToken) {
+    this.claimToken = claimToken;
+  }
+
+  public long getLeaseExpiry() {
+    return leaseExpiry;
+  }
+
+  public void setLeaseExpiry(long leaseExpiry) {
+    this.leaseExpiry = leaseExpiry;
+  }
+
+  public long getCreated() {
+    return created;
+  }
+
+  public void setCreated(long created) {
+    this.created = created;
+  }
+
+  @Override
+  public String toString() {
+    return "ResendQueueItem [id=" + id + ", transmissionId=" + transmissionId + ", nextAttempt="
+        + nextAttempt + ", claimToken=" + claimToken + ", leaseExpiry=" + leaseExpiry + "]";
+  }
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset paged query. The next token is null on the last page.
+ */
+public class ResultPage<T> {
+
+  private List<T> items = new ArrayList<>();
+  private String next;
+
+  public ResultPage() {
+    super();
+  }
+
+  public ResultPage(List<T> items, String next) {
+    this.items = items;
+    this.next = next;
+  }
+
+  /**
+   * Build a page from a query which read one item more than the limit, so that the last page is
+   * recognized without another query.
+   */
+  public static <T> ResultPage<T> of(List<T> fetched, int limit, Function<T, PageCursor> cursorOf) {
+    if (fetched.size() <= limit) {
+      return new ResultPage<>(fetched, null);
+    }
+    List<T> items = new ArrayList<>(fetched.subList(0, limit));
+    return new ResultPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getNext() {
+    return next;
+  }
+
+  public void setNext(String next) {
+    this.next = next;
+  }
+
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import java.util.List;
+
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus;
+
+public interface CircuitBreakerRegistry {
+
+  public boolean allowRequest(String endpoint);
+
+  /**
+   * @return how many milliseconds it takes until the breaker of the endpoint lets trial requests
+   *         through, or 0 when it does already
+   */
+  public long getRetryDelay(String endpoint);
+
+  public void recordSuccess(String endpoint);
+
+  public void recordFailure(String endpoint);
+
+  public List<CircuitBreakerStatus> getStatuses();
+
+  public boolean reset(String endpoint);
+
+}
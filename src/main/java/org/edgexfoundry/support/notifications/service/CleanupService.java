@@ -18,10 +18,16 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
+
 public interface CleanupService {
 
   public void cleanupOld();
 
   public void cleanupOld(long age);
 
+  public void cleanupOldProcessed(long age);
+
+  public CleanupStatus getStatus();
+
 }
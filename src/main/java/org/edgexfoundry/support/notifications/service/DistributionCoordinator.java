@@ -18,6 +18,8 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import java.util.List;
+
 import org.edgexfoundry.support.domain.notifications.Channel;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.Subscription;
@@ -27,6 +29,8 @@ public interface DistributionCoordinator {
 
   public void distribute(Notification notification);
 
+  public void distributeBatch(List<Notification> notifications);
+
   public void sendViaChannel(Notification notification, Channel channel, String receiver);
 
   public void sendViaChannel(Notification notification, Subscription subscription);
@@ -16,31 +16,33 @@
  * @version: 1.0.0
  *******************************************************************************/
 
-package org.edgexfoundry.support.notifications.service.impl;
-
-import org.edgexfoundry.support.domain.notifications.Transmission;
-import org.edgexfoundry.support.notifications.service.SendingService;
-import org.springframework.scheduling.annotation.Async;
-
-public class CriticalSeverityResendTask implements Runnable {
-
-  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
-      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
-
-  private Transmission transmission;
-  private SendingService sendingService;
-
-  public CriticalSeverityResendTask(Transmission transmission, SendingService sendingService) {
-    this.transmission = transmission;
-    this.sendingService = sendingService;
-  }
-
-  @Async
-  @Override
-  public void run() {
-    logger.info("critical severity resend scheduler is triggered.");
-    logger.debug("the resending transmission is: " + transmission);
-    sendingService.resend(transmission);
-  }
+package org.edgexfoundry.support.notifications.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+
+public interface ExportService {
+
+  public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+  /**
+   * Write the notifications created within the given range, oldest first, to the stream as
+   * newline-delimited JSON. Null labels match any labels.
+   *
+   * @return the number of exported notifications
+   */
+  public long exportNotifications(long start, long end, String[] labels, OutputStream out)
+      throws IOException;
+
+  /**
+   * Write the transmissions created within the given range, oldest first, to the stream as
+   * newline-delimited JSON. A null status matches every status.
+   *
+   * @return the number of exported transmissions
+   */
+  public long exportTransmissions(long start, long end, TransmissionStatus status,
+      OutputStream out) throws IOException;
 
 }
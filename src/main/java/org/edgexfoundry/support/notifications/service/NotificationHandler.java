@@ -21,13 +21,29 @@ package org.edgexfoundry.support.notifications.service;
 import java.util.List;
 
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 
 public interface NotificationHandler {
 
-  public void receiveNotification(Notification notification);
+  /**
+   * @return ACCEPTED when the notification is stored, SUPPRESSED with the slug of the stored
+   *         notification it was counted against when it is a repeat, or RATE_LIMITED when its
+   *         sender is over its rate limit
+   */
+  public BatchItemResult receiveNotification(Notification notification);
+
+  public List<BatchItemResult> receiveNotifications(List<Notification> notifications);
 
   public Notification findBySlug(String slug);
 
+  /**
+   * @return how often the notification has been received, counting the repeats which were
+   *         suppressed in favor of it
+   */
+  public Occurrence findOccurrence(String slug);
+
   public List<Notification> searchBySender(String sender);
 
   public List<Notification> searchBySender(String sender, int limit);
@@ -36,6 +52,14 @@ public interface NotificationHandler {
 
   public List<Notification> findByCreatedDuration(long start, long end, int limit);
 
+  /**
+   * Read one page of the notifications created within the given range, newest first. The page
+   * starts after the position encoded in the cursor token of the previous page, or with the newest
+   * notification when the cursor is null.
+   */
+  public ResultPage<Notification> findByCreatedDuration(long start, long end, String cursor,
+      int limit);
+
   public List<Notification> findByCreatedAfter(long start);
 
   public List<Notification> findByCreatedAfter(long start, int limit);
@@ -52,6 +76,20 @@ public interface NotificationHandler {
 
   public List<Notification> findNewNotifications(int limit);
 
+  // summary listings, which leave out the content of the notifications
+
+  public List<Notification> searchSummariesBySender(String sender, int limit);
+
+  public List<Notification> findSummariesByCreatedDuration(long start, long end, int limit);
+
+  public List<Notification> findSummariesByCreatedAfter(long start, int limit);
+
+  public List<Notification> findSummariesByCreatedBefore(long end, int limit);
+
+  public List<Notification> findSummariesInLabels(String[] labels, int limit);
+
+  public List<Notification> findNewNotificationSummaries(int limit);
+
   public void deleteNotificationAndTransmissionsBySlug(String slug);
 
   public void deleteOldProcessedNotificationsAndTransmissions(long age);
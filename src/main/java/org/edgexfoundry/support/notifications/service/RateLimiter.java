@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+public interface RateLimiter {
+
+  public enum Scope {
+    SENDER, SUBSCRIPTION
+  }
+
+  /**
+   * Take a token from the bucket of a sender at ingest, or of the receiver of a subscription at
+   * delivery.
+   *
+   * @return 0 when a token was taken, otherwise how many milliseconds it takes until the bucket
+   *         has one again
+   */
+  public long tryAcquire(Scope scope, String key);
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+
+public interface RetentionPolicy {
+
+  /**
+   * Name of the date field which the TTL indexes of the notification and transmission collections
+   * expire documents by.
+   */
+  public static final String EXPIRY_FIELD = "expireAt";
+
+  public static final String TTL_INDEX_NAME = "expireAt_ttl";
+
+  public boolean isEnabled();
+
+  /**
+   * @return when a notification in the given status, last modified at the given time, expires, or
+   *         null when it is to be kept
+   */
+  public Date getExpiry(NotificationStatus status, long modified);
+
+  /**
+   * @return when a transmission in the given status, last modified at the given time, expires, or
+   *         null when it is to be kept
+   */
+  public Date getExpiry(TransmissionStatus status, long modified);
+
+}
@@ -18,14 +18,29 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import java.util.List;
+
 import org.edgexfoundry.support.domain.notifications.Channel;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
 
 public interface SendingService {
 
   public void send(Notification notification, Channel channel, String receiver);
 
+  /**
+   * Send one notification to several channels at once. Every delivery still gets its own
+   * transmission, but a channel type may combine the deliveries on the wire.
+   */
+  public void send(Notification notification, List<ChannelDelivery> deliveries);
+
+  /**
+   * Send several notifications to one channel as a single digest. Every notification still gets
+   * its own transmission, all of them recorded from the delivery of the digest.
+   */
+  public void sendDigest(List<Notification> notifications, Channel channel, String receiver);
+
   public void resend(Transmission transmission);
 
 }
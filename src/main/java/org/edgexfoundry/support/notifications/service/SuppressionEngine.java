@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+
+public interface SuppressionEngine {
+
+  public boolean isEnabled();
+
+  /**
+   * @return the fingerprint which tells repeats of the notification apart from other
+   *         notifications, or null when suppression is disabled
+   */
+  public String fingerprint(Notification notification);
+
+  /**
+   * Collapse occurrences of the fingerprint into the notification stored for it, if that one last
+   * occurred within the suppression window.
+   *
+   * @return the occurrence of the stored notification they were collapsed into, and so are not to
+   *         be stored and distributed themselves, or null when they were not
+   */
+  public Occurrence suppress(String fingerprint, int occurrences);
+
+  /**
+   * Start counting the occurrences of a notification which has just been stored, so that its
+   * repeats can be collapsed into it.
+   */
+  public void track(Notification notification, String fingerprint, int occurrences);
+
+  /**
+   * @return the occurrences of a stored notification, or null when it has not been tracked
+   */
+  public Occurrence findOccurrence(Notification notification);
+
+  /**
+   * Stop counting the occurrences of a notification which is deleted, so that its repeats are no
+   * longer collapsed into it.
+   */
+  public void untrack(Notification notification);
+
+}
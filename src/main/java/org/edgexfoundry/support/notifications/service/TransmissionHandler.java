@@ -21,6 +21,7 @@ package org.edgexfoundry.support.notifications.service;
 import java.util.List;
 
 import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 
 public interface TransmissionHandler {
 
@@ -38,6 +39,14 @@ public interface TransmissionHandler {
 
   public List<Transmission> findByCreatedDuration(long start, long end, int limit);
 
+  /**
+   * Read one page of the transmissions created within the given range, newest first. The page
+   * starts after the position encoded in the cursor token of the previous page, or with the newest
+   * transmission when the cursor is null.
+   */
+  public ResultPage<Transmission> findByCreatedDuration(long start, long end, String cursor,
+      int limit);
+
   public List<Transmission> findByCreatedAfter(long start, int limit);
 
   public List<Transmission> findByCreatedBefore(long end, int limit);
@@ -48,6 +57,20 @@ public interface TransmissionHandler {
 
   public List<Transmission> findFailedTransmissions(int limit);
 
+  // summary listings, which hold only the id and slug of the notification and the latest record
+
+  public List<Transmission> findSummariesByCreatedDuration(long start, long end, int limit);
+
+  public List<Transmission> findSummariesByCreatedAfter(long start, int limit);
+
+  public List<Transmission> findSummariesByCreatedBefore(long end, int limit);
+
+  public List<Transmission> findSummariesByNotificationSlug(String slug, int limit);
+
+  public List<Transmission> findEscalatedTransmissionSummaries(int limit);
+
+  public List<Transmission> findFailedTransmissionSummaries(int limit);
+
   public void deleteOldSentTransmissions(long age);
 
   public void deleteOldFailedTransmissions(long age);
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+/**
+ * Tells the background executors of this service instance that new work has arrived, so that they
+ * run as soon as it does instead of on their next scheduled tick. A signal only wakes a run early;
+ * the scheduled ticks still scan, since work is also added by other service instances and by
+ * failures which raise no signal here.
+ */
+public interface WorkSignal {
+
+  /**
+   * Returned by {@link #begin(Work)} when another run of the work is still going on.
+   */
+  public static final long NONE = 0L;
+
+  public enum Work {
+    NORMAL_DISTRIBUTION, NORMAL_RESEND
+  }
+
+  /**
+   * Run the listener the debounce delay of the work after it is signalled. There is one listener
+   * per work.
+   */
+  public void register(Work work, Runnable listener);
+
+  /**
+   * Signal new work. The signals which arrive while a wake-up is pending are handled by it.
+   */
+  public void signal(Work work);
+
+  /**
+   * Start a run of the work. Returns a token to pass to {@link #finish(Work, long)}, or
+   * {@link #NONE} when another run of the work is still going on.
+   */
+  public long begin(Work work);
+
+  /**
+   * Finish a run started by {@link #begin(Work)}. Work signalled while a complete run went on wakes
+   * the listener again; after a failed run, finished with {@link #NONE}, the work is left to the
+   * next scheduled tick.
+   */
+  public void finish(Work work, long token);
+
+}
@@ -19,7 +19,7 @@
 package org.edgexfoundry.support.notifications.service.impl;
 
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
 import java.util.List;
 
 import org.edgexfoundry.exception.controller.DataValidationException;
@@ -31,15 +31,18 @@ import org.edgexfoundry.support.domain.notifications.NotificationStatus;
 import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
 import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
-import org.edgexfoundry.support.notifications.GlobalVariables;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
+import org.edgexfoundry.support.notifications.service.BackoffPolicy;
 import org.edgexfoundry.support.notifications.service.EscalationService;
+import org.edgexfoundry.support.notifications.service.RateLimiter;
+import org.edgexfoundry.support.notifications.service.RateLimiter.Scope;
+import org.edgexfoundry.support.notifications.service.ResendQueue;
 import org.edgexfoundry.support.notifications.service.SendingService;
+import org.edgexfoundry.support.notifications.service.WorkSignal;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 public abstract class AbstractSendingService implements SendingService {
 
@@ -53,20 +56,110 @@ public abstract class AbstractSendingService implements SendingService {
   private EscalationService escalationService;
 
   @Autowired
-  private ThreadPoolTaskScheduler scheduler;
+  private ResendQueue resendQueue;
 
   @Autowired
   private GeneralConfig generalConfig;
 
-  @Value("${application.scheduler.critical.resend.duration}")
-  private long criticalResendDuration;
+  @Autowired
+  private BackoffPolicy backoffPolicy;
+
+  @Autowired
+  private WorkSignal workSignal;
+
+  @Autowired
+  private RateLimiter rateLimiter;
 
-  @Async
   @Override
   public void send(Notification notification, Channel channel, String receiver) {
     this.checkParameters(notification, channel);
 
-    TransmissionRecord record = sendToReceiver(notification, channel);
+    Deferral deferral = admission(channel, receiver);
+    if (deferral != null) {
+      defer(notification, channel, receiver, deferral);
+      return;
+    }
+    recordTransmission(notification, channel, receiver, sendToReceiver(notification, channel));
+  }
+
+  @Override
+  public void send(Notification notification, List<ChannelDelivery> deliveries) {
+    for (ChannelDelivery delivery : deliveries) {
+      send(notification, delivery.getChannel(), delivery.getReceiver());
+    }
+  }
+
+  @Override
+  public void sendDigest(List<Notification> notifications, Channel channel, String receiver) {
+    for (Notification notification : notifications) {
+      this.checkParameters(notification, channel);
+    }
+
+    Deferral deferral = admission(channel, receiver);
+    TransmissionRecord record =
+        deferral != null ? null : sendToReceiver(digestOf(notifications), channel);
+    for (Notification notification : notifications) {
+      try {
+        if (record == null) {
+          defer(notification, channel, receiver, deferral);
+        } else {
+          recordTransmission(notification, channel, receiver, record);
+        }
+      } catch (Exception e) {
+        logger.error("transmission of the digest for notification slug=" + notification.getSlug()
+            + " is lost: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Take a token of the receiver for each delivery. The deliveries of receivers over their rate
+   * limit or out of reach are deferred, the others are returned to be sent right away.
+   */
+  protected List<ChannelDelivery> admit(Notification notification,
+      List<ChannelDelivery> deliveries) {
+    List<ChannelDelivery> admitted = new ArrayList<>(deliveries.size());
+    for (ChannelDelivery delivery : deliveries) {
+      Deferral deferral = admission(delivery.getChannel(), delivery.getReceiver());
+      if (deferral == null) {
+        admitted.add(delivery);
+        continue;
+      }
+      try {
+        defer(notification, delivery.getChannel(), delivery.getReceiver(), deferral);
+      } catch (Exception e) {
+        logger.error("transmission of " + delivery + " is lost: " + e.getMessage(), e);
+      }
+    }
+    return admitted;
+  }
+
+  /**
+   * Persist the transmission of a first delivery attempt and schedule its resend if it failed.
+   */
+  protected void recordTransmission(Notification notification, Channel channel, String receiver,
+      TransmissionRecord record) {
+    handleFailedTransmission(persist(notification, channel, receiver, record));
+  }
+
+  /**
+   * A deferred delivery is persisted as a failed transmission, so that the resend path delivers
+   * it, but it is no attempt: it is postponed until the end of the deferral without counting a
+   * resend or escalating.
+   */
+  private void defer(Notification notification, Channel channel, String receiver,
+      Deferral deferral) {
+    logger.info("delivery to receiver " + receiver + " is deferred for " + deferral.wait
+        + " ms: " + deferral.reason);
+    TransmissionRecord record = new TransmissionRecord();
+    record.setSent(System.currentTimeMillis());
+    record.setStatus(TransmissionStatus.FAILED);
+    record.setResponse("deferred, " + deferral.reason);
+    postpone(persist(notification, channel, receiver, record), deferral.wait);
+  }
+
+  private Transmission persist(Notification notification, Channel channel, String receiver,
+      TransmissionRecord record) {
     Transmission transmission = new Transmission();
     transmission.setNotification(notification);
     transmission.setReceiver(receiver);
@@ -76,53 +169,114 @@ public abstract class AbstractSendingService implements SendingService {
     transmission.setRecords(new TransmissionRecord[] {record});
 
     try {
-      transmission = transmissionDAO.insert(transmission);
+      return transmissionDAO.insert(transmission);
     } catch (Exception e) {
       logger.error("transmission cannot be persisted: " + transmission.toString());
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
     }
-
-    handleFailedTransmission(transmission);
   }
 
-  @Async
   @Override
   public void resend(Transmission transmission) {
+    if (transmission != null && transmission.getNotification() == null) {
+      discardOrphan(transmission);
+      return;
+    }
     this.checkParameters(transmission);
 
+    Deferral deferral = admission(transmission.getChannel(), transmission.getReceiver());
+    if (deferral != null) {
+      logger.info("resend of transmission id=" + transmission.getId() + " is postponed for "
+          + deferral.wait + " ms: " + deferral.reason);
+      postpone(transmission, deferral.wait);
+      return;
+    }
+
     TransmissionRecord record =
         sendToReceiver(transmission.getNotification(), transmission.getChannel());
-    transmission.inreaseResendCount();
-    transmission.setStatus(record.getStatus());
-    transmission.setRecords(addNewRecordToArray(transmission.getRecords(), record));
+    long modified = System.currentTimeMillis();
 
     try {
-      transmission = transmissionDAO.save(transmission);
+      if (transmissionDAO.appendRecord(transmission.getId(), record, record.getStatus(),
+          modified) == 0) {
+        logger.info("the resent transmission doesn't exist any more: id=" + transmission.getId());
+      }
     } catch (Exception e) {
       logger.error("transmission cannot be updated: " + transmission.toString());
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
     }
 
+    transmission.inreaseResendCount();
+    transmission.setStatus(record.getStatus());
+    transmission.setModified(modified);
+    transmission.setRecords(appendRecord(transmission.getRecords(), record));
+
     handleFailedTransmission(transmission);
   }
-  
+
+  /**
+   * The notification of a failed transmission is gone once it expired or was cleaned up. Such a
+   * transmission can never be resent, so it is deleted together with its pending resend instead of
+   * being claimed again on every run.
+   */
+  private void discardOrphan(Transmission transmission) {
+    logger.info("the notification of the resent transmission doesn't exist any more: id="
+        + transmission.getId());
+    try {
+      transmissionDAO.delete(transmission.getId());
+    } catch (Exception e) {
+      logger.error("transmission cannot be deleted: " + transmission.toString());
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    resendQueue.complete(transmission.getId());
+  }
+
+  /**
+   * A postponed delivery is neither counted nor escalated. A critical one is rescheduled on the
+   * resend queue; a normal one is leased to nobody until then, so that no claim of the normal
+   * resend takes it before, and the normal resend is signalled.
+   */
+  private void postpone(Transmission transmission, long wait) {
+    long until = System.currentTimeMillis() + wait;
+    if (transmission.getNotification().getSeverity() == NotificationSeverity.CRITICAL) {
+      resendQueue.schedule(transmission.getId(), until);
+    } else if (transmission.getNotification().getSeverity() == NotificationSeverity.NORMAL) {
+      if (transmissionDAO.deferById(transmission.getId(), until) == 0) {
+        logger.info("the postponed transmission doesn't exist any more: id="
+            + transmission.getId());
+      }
+      workSignal.signal(Work.NORMAL_RESEND);
+    }
+  }
+
   private void handleFailedTransmission(Transmission transmission) {
     Notification notification = transmission.getNotification();
     if (transmission.getStatus() == TransmissionStatus.FAILED
         && notification.getStatus() != NotificationStatus.ESCALATED) {
       if (notification.getSeverity() == NotificationSeverity.CRITICAL) {
         if (transmission.getResendCount() < generalConfig.getResendLimit()) {
-          scheduler.schedule(new CriticalSeverityResendTask(transmission, this),
-              new Date(System.currentTimeMillis() + criticalResendDuration));
+          long delay = backoffPolicy.nextDelay(transmission.getChannel().getType(),
+              transmission.getResendCount());
+          resendQueue.schedule(transmission.getId(), System.currentTimeMillis() + delay);
         } else {
+          completeResend(transmission);
           doEscalation(transmission);
         }
       } else if (notification.getSeverity() == NotificationSeverity.NORMAL) {
-        GlobalVariables.getInstance()
-            .setTheLatestNormalTransmissionFailed(transmission.getModified());
+        workSignal.signal(Work.NORMAL_RESEND);
       }
+    } else {
+      completeResend(transmission);
+    }
+  }
+
+  private void completeResend(Transmission transmission) {
+    if (transmission.getResendCount() > 0
+        && transmission.getNotification().getSeverity() == NotificationSeverity.CRITICAL) {
+      resendQueue.complete(transmission.getId());
     }
   }
 
@@ -131,7 +285,9 @@ public abstract class AbstractSendingService implements SendingService {
     escalationService.escalate(transmission);
 
     transmission.setStatus(TransmissionStatus.ESCALATED);
-    transmissionDAO.save(transmission);
+    transmission.setModified(System.currentTimeMillis());
+    transmissionDAO.updateStatusById(transmission.getId(), transmission.getStatus(),
+        transmission.getModified());
   }
 
   protected void checkParameters(Notification notification, Channel channel) {
@@ -158,14 +314,57 @@ public abstract class AbstractSendingService implements SendingService {
 
   abstract TransmissionRecord sendToReceiver(Notification notification, Channel channel);
 
-  private TransmissionRecord[] addNewRecordToArray(TransmissionRecord[] originalRecords,
-      TransmissionRecord newRecord) {
-    List<TransmissionRecord> newRecords = new ArrayList<>();
-    for (TransmissionRecord r : originalRecords) {
-      newRecords.add(r);
+  /**
+   * Hold back a delivery to a receiver which is known to be out of reach, instead of attempting
+   * it. Channel types which can tell override this.
+   *
+   * @return null when the delivery may be attempted now
+   */
+  Deferral checkReachable(Channel channel) {
+    return null;
+  }
+
+  private Deferral admission(Channel channel, String receiver) {
+    long wait = rateLimiter.tryAcquire(Scope.SUBSCRIPTION, receiver);
+    if (wait > 0) {
+      return new Deferral(wait, "receiver " + receiver + " is over its rate limit");
     }
-    newRecords.add(newRecord);
-    return newRecords.stream().toArray(TransmissionRecord[]::new);
+    return checkReachable(channel);
+  }
+
+  /**
+   * Merge several notifications into the one notification sent as their digest on the channel
+   * type.
+   */
+  abstract Notification digestOf(List<Notification> notifications);
+
+  /**
+   * The stored records are appended to by the database; the copy held by the resent transmission
+   * is only extended so that an escalation still reports the last attempt.
+   */
+  private TransmissionRecord[] appendRecord(TransmissionRecord[] records,
+      TransmissionRecord record) {
+    if (records == null) {
+      return new TransmissionRecord[] {record};
+    }
+    TransmissionRecord[] appended = Arrays.copyOf(records, records.length + 1);
+    appended[records.length] = record;
+    return appended;
+  }
+
+  /**
+   * Why and for how many milliseconds a delivery is postponed rather than attempted.
+   */
+  static final class Deferral {
+
+    private final long wait;
+    private final String reason;
+
+    Deferral(long wait, String reason) {
+      this.wait = wait;
+      this.reason = reason;
+    }
+
   }
 
 }
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.notifications.config.LatencyProperties.Target;
+
+/**
+ * Fixed-delay trigger whose delay follows the outcome of the runs: it drops to the minimum
+ * interval as soon as a run finds work, so a backlog is worked off run after run, and grows by the
+ * backoff factor with every idle run up to the latency target, so an idle scheduler hardly scans
+ * at all while no notification waits longer than the target for its run. The runs go on after the
+ * scheduler has handed them off, so the next run is only scheduled once a run has completed.
+ */
+public class AdaptiveTrigger {
+
+  private final Target target;
+
+  private volatile long interval;
+
+  public AdaptiveTrigger(Target target) {
+    this.target = target;
+    this.interval = Math.min(target.getMinInterval(), target.getTarget());
+  }
+
+  /**
+   * Record the outcome of a run.
+   */
+  public void completed(boolean foundWork) {
+    long min = Math.min(target.getMinInterval(), target.getTarget());
+    if (foundWork) {
+      interval = min;
+    } else {
+      interval = Math.min(target.getTarget(),
+          Math.max(min, (long) Math.ceil(interval * target.getBackoff())));
+    }
+  }
+
+  public long getInterval() {
+    return interval;
+  }
+
+  /**
+   * @return when the run after a run completed at the given time is due
+   */
+  public Date nextExecutionTime(long completion) {
+    return new Date(completion + interval);
+  }
+
+}
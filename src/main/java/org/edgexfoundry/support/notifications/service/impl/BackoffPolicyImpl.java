@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.edgexfoundry.support.domain.notifications.ChannelType;
+import org.edgexfoundry.support.notifications.config.BackoffProperties;
+import org.edgexfoundry.support.notifications.config.BackoffProperties.Policy;
+import org.edgexfoundry.support.notifications.service.BackoffPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes resend delays from the resend count of a transmission with the policy configured for
+ * its channel type. Every strategy is capped by the max delay of the policy:
+ * <ul>
+ * <li>FIXED: always the base delay</li>
+ * <li>EXPONENTIAL: base * multiplier^resendCount</li>
+ * <li>DECORRELATED_JITTER: a random delay between base and base * multiplier^(resendCount + 1),
+ * so that transmissions which failed together spread out instead of retrying in lockstep</li>
+ * </ul>
+ */
+@Service
+public class BackoffPolicyImpl implements BackoffPolicy {
+
+  @Autowired
+  private BackoffProperties backoffProperties;
+
+  @Override
+  public long nextDelay(ChannelType channelType, int resendCount) {
+    Policy policy = backoffProperties.getPolicy(channelType);
+    long base = Math.max(0, policy.getBaseDelay());
+    long cap = Math.max(base, policy.getMaxDelay());
+    int attempt = Math.max(0, resendCount);
+
+    switch (policy.getStrategy()) {
+      case EXPONENTIAL:
+        return exponential(base, policy.getMultiplier(), attempt, cap);
+      case DECORRELATED_JITTER:
+        long upper = exponential(base, policy.getMultiplier(), attempt + 1, cap);
+        return upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+      default:
+        return Math.min(base, cap);
+    }
+  }
+
+  private static long exponential(long base, double multiplier, int attempt, long cap) {
+    double delay = base * Math.pow(Math.max(1, multiplier), attempt);
+    return delay >= cap ? cap : (long) delay;
+  }
+
+}
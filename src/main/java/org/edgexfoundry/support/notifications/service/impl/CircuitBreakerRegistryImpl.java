@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.edgexfoundry.support.notifications.config.CircuitBreakerProperties;
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus;
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus.State;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * One circuit breaker per endpoint. A breaker opens after failureThreshold consecutive failures
+ * and rejects every request while open. After openDuration it lets up to halfOpenMaxCalls trial
+ * requests through: a success closes it again, a failure reopens it. Breakers are created on the
+ * first failure of their endpoint; a closed breaker which has not been used for evictInterval is
+ * the same as none, so such breakers are evicted periodically.
+ */
+@Service
+public class CircuitBreakerRegistryImpl implements CircuitBreakerRegistry {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private CircuitBreakerProperties properties;
+
+  private final ConcurrentMap<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean allowRequest(String endpoint) {
+    if (!properties.isEnabled()) {
+      return true;
+    }
+    Breaker breaker = breakers.get(endpoint);
+    return breaker == null || breaker.allowRequest();
+  }
+
+  @Override
+  public long getRetryDelay(String endpoint) {
+    Breaker breaker = breakers.get(endpoint);
+    return breaker == null ? 0 : breaker.getRetryDelay();
+  }
+
+  @Override
+  public void recordSuccess(String endpoint) {
+    Breaker breaker = breakers.get(endpoint);
+    if (breaker != null && breaker.recordSuccess()) {
+      logger.info("circuit breaker is closed for " + endpoint);
+    }
+  }
+
+  @Override
+  public void recordFailure(String endpoint) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    if (breakers.computeIfAbsent(endpoint, Breaker::new).recordFailure()) {
+      logger.warn("circuit breaker is opened for " + endpoint);
+    }
+  }
+
+  @Override
+  public List<CircuitBreakerStatus> getStatuses() {
+    List<CircuitBreakerStatus> statuses = new ArrayList<>();
+    for (Breaker breaker : breakers.values()) {
+      statuses.add(breaker.getStatus());
+    }
+    statuses.sort(Comparator.comparing(CircuitBreakerStatus::getEndpoint));
+    return statuses;
+  }
+
+  @Override
+  public boolean reset(String endpoint) {
+    return breakers.remove(endpoint) != null;
+  }
+
+  @Scheduled(fixedDelayString = "${application.circuitbreaker.evictInterval}")
+  public void evict() {
+    long idleSince = System.currentTimeMillis() - properties.getEvictInterval();
+    breakers.values().removeIf(breaker -> breaker.isIdle(idleSince));
+  }
+
+  private class Breaker {
+
+    private final String endpoint;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int halfOpenCalls;
+    private long rejectedCount;
+    private long used;
+
+    Breaker(String endpoint) {
+      this.endpoint = endpoint;
+      this.used = System.currentTimeMillis();
+    }
+
+    synchronized boolean allowRequest() {
+      used = System.currentTimeMillis();
+      if (state == State.CLOSED) {
+        return true;
+      }
+      // trial requests are granted again after another openDuration, in case an earlier trial
+      // never reported back
+      long now = System.currentTimeMillis();
+      if (now - openedAt >= properties.getOpenDuration()) {
+        state = State.HALF_OPEN;
+        openedAt = now;
+        halfOpenCalls = 0;
+      }
+      if (state == State.HALF_OPEN && halfOpenCalls < properties.getHalfOpenMaxCalls()) {
+        halfOpenCalls++;
+        return true;
+      }
+      rejectedCount++;
+      return false;
+    }
+
+    /**
+     * @return milliseconds until the breaker grants a trial request, 0 if it is closed
+     */
+    synchronized long getRetryDelay() {
+      if (state == State.CLOSED) {
+        return 0;
+      }
+      return Math.max(0, openedAt + properties.getOpenDuration() - System.currentTimeMillis());
+    }
+
+    synchronized boolean isIdle(long idleSince) {
+      return state == State.CLOSED && used <= idleSince;
+    }
+
+    /**
+     * @return true if the breaker has been closed by this success
+     */
+    synchronized boolean recordSuccess() {
+      used = System.currentTimeMillis();
+      boolean closed = state != State.CLOSED;
+      state = State.CLOSED;
+      consecutiveFailures = 0;
+      return closed;
+    }
+
+    /**
+     * @return true if the breaker has been opened by this failure
+     */
+    synchronized boolean recordFailure() {
+      used = System.currentTimeMillis();
+      consecutiveFailures++;
+      if (state == State.HALF_OPEN || (state == State.CLOSED
+          && consecutiveFailures >= properties.getFailureThreshold())) {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        return true;
+      }
+      return false;
+    }
+
+    synchronized CircuitBreakerStatus getStatus() {
+      CircuitBreakerStatus status = new CircuitBreakerStatus();
+      status.setEndpoint(endpoint);
+      status.setState(state);
+      status.setConsecutiveFailures(consecutiveFailures);
+      status.setOpenedAt(openedAt);
+      status.setRejectedCount(rejectedCount);
+      return status;
+    }
+
+  }
+
+}
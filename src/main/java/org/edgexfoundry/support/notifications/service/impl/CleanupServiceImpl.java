@@ -20,17 +20,26 @@ package org.edgexfoundry.support.notifications.service.impl;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.edgexfoundry.exception.controller.ServiceException;
-import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
 import org.edgexfoundry.support.notifications.service.CleanupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+/**
+ * Purges aged notifications and their transmissions in constant memory. The notifications are
+ * walked in id order one chunk at a time: only the ids of a chunk are read, its transmissions are
+ * deleted by those ids and the notifications by the id range of the chunk, and the purge pauses
+ * between chunks so that it does not starve the regular traffic of the database.
+ */
 @Service
 public class CleanupServiceImpl implements CleanupService {
 
@@ -46,48 +55,111 @@ public class CleanupServiceImpl implements CleanupService {
   @Value("${application.cleanup.defaultAge}")
   private long defaultAge;
 
-  @Async
+  @Value("${application.cleanup.batchSize}")
+  private int batchSize;
+
+  @Value("${application.cleanup.throttle}")
+  private long throttle;
+
+  private CleanupStatus status = new CleanupStatus();
+
+  @Async(AsyncExecutorConfig.CLEANUP_EXECUTOR)
   @Override
   public void cleanupOld() {
     logger.debug("start async cleanup process for default age");
-    doCleanup(defaultAge);
+    purge(null, defaultAge);
     logger.debug("completed async cleanup process for default age");
   }
 
-  @Async
+  @Async(AsyncExecutorConfig.CLEANUP_EXECUTOR)
   @Override
   public void cleanupOld(long age) {
     logger.debug("start async cleanup process for age: " + age);
-    doCleanup(age);
+    purge(null, age);
     logger.debug("completed async cleanup process for age: " + age);
   }
 
-  private void doCleanup(long age) {
+  @Override
+  public void cleanupOldProcessed(long age) {
+    purge(NotificationStatus.PROCESSED, age);
+  }
+
+  @Override
+  public synchronized CleanupStatus getStatus() {
+    return new CleanupStatus(status);
+  }
+
+  private void purge(NotificationStatus notificationStatus, long age) {
     long end = System.currentTimeMillis() - age;
     Date endDate = new Date(end);
 
-    logger.debug(
-        "CleanupService is starting deleting notifications and transmissions by notifications modified before "
-            + endDate);
-
-    List<Notification> notifications = notificationDAO.findByModifiedBefore(end);
+    logger.debug("CleanupService is starting deleting "
+        + (notificationStatus == null ? "" : notificationStatus + " ")
+        + "notifications and their transmissions by notifications modified before " + endDate);
+
+    CleanupStatus started = new CleanupStatus();
+    started.setState(CleanupStatus.State.RUNNING);
+    started.setNotificationStatus(notificationStatus);
+    started.setModifiedBefore(end);
+    started.setStarted(System.currentTimeMillis());
+    synchronized (this) {
+      status = started;
+    }
 
+    String lastId = null;
     try {
-      logger.debug(
-          "CleanupService is starting deleting transmissions by notifications modified before "
-              + endDate);
-      transmissionDAO.deleteByNotificationIn(notifications);
-
-      logger.debug(
-          "CleanupService is starting deleting notifications by notifications modified before "
-              + endDate);
-      notificationDAO.delete(notifications);
+      while (true) {
+        List<String> ids = notificationDAO.findIdsByStatusAndModifiedBeforeAfterId(
+            notificationStatus, end, lastId, batchSize);
+        if (ids.isEmpty()) {
+          break;
+        }
+
+        Long transmissions = transmissionDAO.deleteByNotificationIdIn(ids);
+        lastId = ids.get(ids.size() - 1);
+        int notifications = notificationDAO.deleteByStatusAndModifiedBeforeAndIdBetween(
+            notificationStatus, end, ids.get(0), lastId);
+        update(started, progress -> {
+          progress.setBatches(progress.getBatches() + 1);
+          progress.setNotificationsDeleted(progress.getNotificationsDeleted() + notifications);
+          progress.setTransmissionsDeleted(progress.getTransmissionsDeleted()
+              + (transmissions == null ? 0 : transmissions));
+        });
+
+        if (ids.size() < batchSize) {
+          break;
+        }
+        if (throttle > 0) {
+          Thread.sleep(throttle);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Cleanup operation by notifications modified before " + endDate
+          + " is interrupted");
+      finish(started, CleanupStatus.State.FAILED, "interrupted");
+      return;
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
+      finish(started, CleanupStatus.State.FAILED, e.getMessage());
       throw new ServiceException(e);
     }
 
-    logger.debug("Cleanup operation by notifications modified before " + endDate + " is completed");
+    finish(started, CleanupStatus.State.COMPLETED, null);
+    logger.debug("Cleanup operation by notifications modified before " + endDate
+        + " is completed: " + started);
+  }
+
+  private synchronized void update(CleanupStatus progress, Consumer<CleanupStatus> change) {
+    change.accept(progress);
+  }
+
+  private void finish(CleanupStatus progress, CleanupStatus.State state, String message) {
+    update(progress, finished -> {
+      finished.setState(state);
+      finished.setFinished(System.currentTimeMillis());
+      finished.setMessage(message);
+    });
   }
 
 }
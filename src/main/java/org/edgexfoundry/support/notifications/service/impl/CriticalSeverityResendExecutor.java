@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.ResendQueueItem;
+import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
+import org.edgexfoundry.support.notifications.service.ResendQueue;
+import org.edgexfoundry.support.notifications.service.ResendTaskExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Polls the durable resend queue for critical transmissions which are due. Every poll claims the
+ * due items in batches and hands the transmissions to their channels; the sending services then
+ * reschedule or complete the items according to the outcome.
+ */
+@Service
+public class CriticalSeverityResendExecutor implements ResendTaskExecutor {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private ResendQueue resendQueue;
+
+  @Autowired
+  private TransmissionDAO transmissionDAO;
+
+  @Autowired
+  private DistributionCoordinator distributionCoordinator;
+
+  @Autowired
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Value("${application.resend.queue.pollers}")
+  private int pollers;
+
+  @Value("${application.resend.queue.pollInterval}")
+  private long pollInterval;
+
+  @Value("${application.resend.queue.batchSize}")
+  private int batchSize;
+
+  @PostConstruct
+  public void init() {
+    for (int i = 0; i < pollers; i++) {
+      scheduler.scheduleWithFixedDelay(this::startResnding, pollInterval);
+    }
+    logger.info(pollers + " critical severity resend poller(s) are started");
+  }
+
+  @Override
+  public void startResnding() {
+    List<ResendQueueItem> items;
+    try {
+      do {
+        items = resendQueue.claim(batchSize);
+        if (items.isEmpty()) {
+          return;
+        }
+        logger.debug("critical severity resend poller has claimed " + items.size()
+            + " due transmission(s)");
+        resend(items);
+      } while (items.size() >= batchSize);
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
+  private void resend(List<ResendQueueItem> items) {
+    List<String> ids = new ArrayList<>(items.size());
+    for (ResendQueueItem item : items) {
+      ids.add(item.getTransmissionId());
+    }
+
+    List<Transmission> transmissions = new ArrayList<>(items.size());
+    transmissionDAO.findAll(ids).forEach(transmissions::add);
+
+    Set<String> found = new HashSet<>();
+    for (Transmission transmission : transmissions) {
+      found.add(transmission.getId());
+      distributionCoordinator.resendViaChannel(transmission);
+    }
+
+    for (String id : ids) {
+      if (!found.contains(id)) {
+        logger.info("the transmission of a pending resend doesn't exist any more: id=" + id);
+        resendQueue.complete(id);
+      }
+    }
+  }
+
+}
@@ -18,32 +18,49 @@
 
 package org.edgexfoundry.support.notifications.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Channel;
 import org.edgexfoundry.support.domain.notifications.ChannelType;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationCategory;
 import org.edgexfoundry.support.domain.notifications.Subscription;
 import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
 import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
 import org.edgexfoundry.support.notifications.service.SendingService;
+import org.edgexfoundry.support.notifications.service.SubscriptionIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DistributionCoordinatorImpl implements DistributionCoordinator {
 
+  private static final String ALL_SUBSCRIPTIONS = "*";
+
   private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
       org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
 
   @Autowired
   private SubscriptionDAO subscriptionDAO;
 
+  @Autowired
+  private SubscriptionIndex subscriptionIndex;
+
   @Autowired
   @Qualifier("RESTfulSendingService")
   private SendingService restfulSendingService;
@@ -52,7 +69,16 @@ public class DistributionCoordinatorImpl implements DistributionCoordinator {
   @Qualifier("EMAILSendingService")
   private SendingService emailSendingService;
 
-  @Async
+  /**
+   * Slugs of the subscriptions which get the normal notifications of a page as one digest per
+   * channel, or * for all of them.
+   */
+  @Value("${application.digest.subscriptions}")
+  private String[] digestSubscriptions;
+
+  private volatile Set<String> digestSlugs;
+
+  @Async(AsyncExecutorConfig.DISTRIBUTION_EXECUTOR)
   @Override
   public void distribute(Notification notification) {
     if (notification == null) {
@@ -63,21 +89,183 @@ public class DistributionCoordinatorImpl implements DistributionCoordinator {
     logger.debug(
         "DistributionCoordinator start distributing notification: " + notification.toString());
 
-    List<Subscription> subscriptions;
     String[] category = notification.getCategory() == null ? new String[] {}
         : new String[] {notification.getCategory().toString()};
     String[] labels = notification.getLabels() == null ? new String[] {} : notification.getLabels();
+    List<Subscription> subscriptions = findSubscriptions(category, labels);
+
+    for (Subscription subscription : subscriptions) {
+      logger.debug("found subscription: " + subscription.toString());
+    }
+    sendViaChannels(notification, subscriptions);
+  }
+
+  /**
+   * Distribute a page of notifications. The subscriptions of the whole page are looked up once by
+   * the union of its categories and labels, then matched to each notification in memory. The sends
+   * themselves run in parallel on the executors of the channels. The subscriptions in digest mode
+   * get all the notifications of the page they match as one digest per channel instead.
+   */
+  @Override
+  public void distributeBatch(List<Notification> notifications) {
+    if (notifications == null) {
+      logger.error("DistributionCoordinator received a null object");
+      throw new DataValidationException("Notification list is null");
+    }
+    if (notifications.isEmpty()) {
+      return;
+    }
+
+    logger.debug("DistributionCoordinator start distributing " + notifications.size()
+        + " notification(s)");
+
+    Set<String> categories = new LinkedHashSet<>();
+    Set<String> labels = new LinkedHashSet<>();
+    for (Notification notification : notifications) {
+      if (notification.getCategory() != null) {
+        categories.add(notification.getCategory().toString());
+      }
+      if (notification.getLabels() != null) {
+        for (String label : notification.getLabels()) {
+          if (label != null) {
+            labels.add(label);
+          }
+        }
+      }
+    }
+    List<Subscription> subscriptions =
+        findSubscriptions(categories.toArray(new String[categories.size()]),
+            labels.toArray(new String[labels.size()]));
+
+    Map<Subscription, List<Notification>> digests = new LinkedHashMap<>();
+    for (Notification notification : notifications) {
+      List<Subscription> direct = new ArrayList<>();
+      for (Subscription subscription : match(notification, subscriptions)) {
+        if (isDigest(subscription)) {
+          digests.computeIfAbsent(subscription, k -> new ArrayList<>()).add(notification);
+        } else {
+          direct.add(subscription);
+        }
+      }
+      sendViaChannels(notification, direct);
+    }
+    digests.forEach(this::sendDigest);
+  }
+
+  private boolean isDigest(Subscription subscription) {
+    Set<String> slugs = digestSlugs;
+    if (slugs == null) {
+      slugs = new HashSet<>();
+      if (digestSubscriptions != null) {
+        for (String slug : digestSubscriptions) {
+          if (!slug.trim().isEmpty()) {
+            slugs.add(slug.trim().toLowerCase(Locale.ROOT));
+          }
+        }
+      }
+      digestSlugs = slugs;
+    }
+    return slugs.contains(ALL_SUBSCRIPTIONS) || (subscription.getSlug() != null
+        && slugs.contains(subscription.getSlug().toLowerCase(Locale.ROOT)));
+  }
+
+  /**
+   * Send the notifications of a page matched by a subscription in digest mode to each of its
+   * channels as one digest.
+   */
+  private void sendDigest(Subscription subscription, List<Notification> notifications) {
+    logger.debug("sending a digest of " + notifications.size() + " notification(s) to subscription "
+        + "slug=" + subscription.getSlug());
+    for (Channel channel : subscription.getChannels()) {
+      if (channel.getType() == ChannelType.REST) {
+        restfulSendingService.sendDigest(notifications, channel, subscription.getReceiver());
+      } else if (channel.getType() == ChannelType.EMAIL) {
+        emailSendingService.sendDigest(notifications, channel, subscription.getReceiver());
+      }
+    }
+  }
+
+  private List<Subscription> findSubscriptions(String[] categories, String[] labels) {
     try {
-      subscriptions = subscriptionDAO
-          .findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(category, labels);
+      if (subscriptionIndex.isReady()) {
+        return subscriptionIndex.findInSubscribedCategoriesOrSubscribedLabels(categories, labels);
+      } else {
+        return subscriptionDAO.findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+            categories, labels);
+      }
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
     }
+  }
+
+  private List<Subscription> match(Notification notification, List<Subscription> subscriptions) {
+    Set<String> labels = new HashSet<>();
+    if (notification.getLabels() != null) {
+      for (String label : notification.getLabels()) {
+        if (label != null) {
+          labels.add(label.toLowerCase(Locale.ROOT));
+        }
+      }
+    }
 
+    List<Subscription> matched = new ArrayList<>();
     for (Subscription subscription : subscriptions) {
-      logger.debug("found subscription: " + subscription.toString());
-      sendViaChannel(notification, subscription);
+      if (subscribesCategory(subscription, notification.getCategory())
+          || subscribesAnyLabel(subscription, labels)) {
+        matched.add(subscription);
+      }
+    }
+    return matched;
+  }
+
+  private boolean subscribesCategory(Subscription subscription, NotificationCategory category) {
+    if (category == null || subscription.getSubscribedCategories() == null) {
+      return false;
+    }
+    for (NotificationCategory subscribed : subscription.getSubscribedCategories()) {
+      if (category == subscribed) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean subscribesAnyLabel(Subscription subscription, Set<String> labels) {
+    if (labels.isEmpty() || subscription.getSubscribedLabels() == null) {
+      return false;
+    }
+    for (String subscribed : subscription.getSubscribedLabels()) {
+      if (subscribed != null && labels.contains(subscribed.toLowerCase(Locale.ROOT))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Send a notification to all the channels of the subscriptions it matched. The email channels
+   * are handed over together, so that addresses shared by several subscriptions get one mail.
+   */
+  private void sendViaChannels(Notification notification, List<Subscription> subscriptions) {
+    List<ChannelDelivery> emailDeliveries = new ArrayList<>();
+    for (Subscription subscription : subscriptions) {
+      for (Channel channel : subscription.getChannels()) {
+        if (channel.getType() == ChannelType.EMAIL) {
+          emailDeliveries.add(new ChannelDelivery(channel, subscription.getReceiver()));
+        } else {
+          sendViaChannel(notification, channel, subscription.getReceiver());
+        }
+      }
+    }
+
+    if (emailDeliveries.size() == 1) {
+      ChannelDelivery delivery = emailDeliveries.get(0);
+      sendViaChannel(notification, delivery.getChannel(), delivery.getReceiver());
+    } else if (!emailDeliveries.isEmpty()) {
+      logger.debug("sending notification slug=" + notification.getSlug() + " to "
+          + emailDeliveries.size() + " email channels");
+      emailSendingService.send(notification, emailDeliveries);
     }
   }
 
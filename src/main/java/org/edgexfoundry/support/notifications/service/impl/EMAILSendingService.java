@@ -18,24 +18,38 @@
 
 package org.edgexfoundry.support.notifications.service.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.support.domain.notifications.Channel;
 import org.edgexfoundry.support.domain.notifications.EmailChannel;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
 import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
 import org.edgexfoundry.support.notifications.config.MailChannelProperties;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
+import org.edgexfoundry.support.notifications.service.MailDeliveryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service("EMAILSendingService")
 public class EMAILSendingService extends AbstractSendingService {
 
+  private static final String DIGEST_SLUG = "digest";
+  private static final String DIGEST_SEPARATOR = "\n----------\n\n";
+
   private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
       org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
 
@@ -43,7 +57,79 @@ public class EMAILSendingService extends AbstractSendingService {
   private MailChannelProperties mailChannelProps;
 
   @Autowired
-  private JavaMailSender mailSender;
+  private MailDeliveryService mailDeliveryService;
+
+  @Async(AsyncExecutorConfig.EMAIL_SEND_EXECUTOR)
+  @Override
+  public void send(Notification notification, Channel channel, String receiver) {
+    super.send(notification, channel, receiver);
+  }
+
+  @Async(AsyncExecutorConfig.EMAIL_SEND_EXECUTOR)
+  @Override
+  public void sendDigest(List<Notification> notifications, Channel channel, String receiver) {
+    super.sendDigest(notifications, channel, receiver);
+  }
+
+  @Async(AsyncExecutorConfig.EMAIL_SEND_EXECUTOR)
+  @Override
+  public void resend(Transmission transmission) {
+    super.resend(transmission);
+  }
+
+  /**
+   * Deliver one notification to the email channels of several subscriptions without sending any
+   * address the same mail twice. The addresses are partitioned by the set of deliveries that
+   * contain them and every partition is sent as one mail, so identical address lists collapse into
+   * a single mail and no recipient sees an address that its own channel did not already list. The
+   * transmission of each delivery is recorded from the mails that carried its addresses. The
+   * deliveries of receivers over their rate limit are deferred instead.
+   */
+  @Async(AsyncExecutorConfig.EMAIL_SEND_EXECUTOR)
+  @Override
+  public void send(Notification notification, List<ChannelDelivery> deliveries) {
+    for (ChannelDelivery delivery : deliveries) {
+      checkParameters(notification, delivery.getChannel());
+    }
+    deliveries = admit(notification, deliveries);
+
+    Map<String, String> addresses = new LinkedHashMap<>();
+    Map<String, Set<Integer>> memberships = new LinkedHashMap<>();
+    for (int i = 0; i < deliveries.size(); i++) {
+      for (String address : ((EmailChannel) deliveries.get(i).getChannel()).getMailAddresses()) {
+        if (address == null || address.trim().isEmpty()) {
+          continue;
+        }
+        String key = address.trim().toLowerCase(Locale.ROOT);
+        addresses.putIfAbsent(key, address.trim());
+        memberships.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(i);
+      }
+    }
+
+    Map<Set<Integer>, List<String>> mails = new LinkedHashMap<>();
+    memberships.forEach((key, members) -> mails.computeIfAbsent(members, k -> new ArrayList<>())
+        .add(addresses.get(key)));
+    logger.debug("coalesced " + deliveries.size() + " email deliveries of notification slug="
+        + notification.getSlug() + " into " + mails.size() + " mail(s)");
+
+    List<List<TransmissionRecord>> results = new ArrayList<>();
+    deliveries.forEach(delivery -> results.add(new ArrayList<>()));
+    mails.forEach((members, to) -> {
+      TransmissionRecord record = sendMail(notification, to.toArray(new String[to.size()]));
+      members.forEach(i -> results.get(i).add(record));
+    });
+
+    for (int i = 0; i < deliveries.size(); i++) {
+      ChannelDelivery delivery = deliveries.get(i);
+      TransmissionRecord record = results.get(i).isEmpty()
+          ? sendToReceiver(notification, delivery.getChannel()) : merge(results.get(i));
+      try {
+        recordTransmission(notification, delivery.getChannel(), delivery.getReceiver(), record);
+      } catch (Exception e) {
+        logger.error("transmission of " + delivery + " is lost: " + e.getMessage(), e);
+      }
+    }
+  }
 
   @Override
   TransmissionRecord sendToReceiver(Notification notification, Channel channel) {
@@ -51,21 +137,43 @@ public class EMAILSendingService extends AbstractSendingService {
     logger.info("EMAILSendingService is starting sending notification: slug="
         + notification.getSlug() + " to channel: " + channel.toString());
 
-    EmailChannel emailChannel = (EmailChannel) channel;
+    return sendMail(notification, ((EmailChannel) channel).getMailAddresses());
+  }
+
+  /**
+   * An email digest is one mail listing the notifications one after the other.
+   */
+  @Override
+  Notification digestOf(List<Notification> notifications) {
+    StringBuilder content = new StringBuilder();
+    for (Notification notification : notifications) {
+      if (content.length() > 0) {
+        content.append(DIGEST_SEPARATOR);
+      }
+      content.append(notification.getSlug()).append(" (").append(notification.getCategory())
+          .append(")\n").append(notification.getContent()).append('\n');
+    }
+    Notification digest = new Notification();
+    digest.setSlug(DIGEST_SLUG);
+    digest.setContent(content.toString());
+    return digest;
+  }
+
+  private TransmissionRecord sendMail(Notification notification, String[] mailAddresses) {
     TransmissionRecord record = new TransmissionRecord();
 
     SimpleMailMessage msg = new SimpleMailMessage();
     msg.setFrom(mailChannelProps.getSender());
     msg.setSubject(mailChannelProps.getSubject());
-    msg.setTo(emailChannel.getMailAddresses());
+    msg.setTo(mailAddresses);
     msg.setText(notification.getContent());
 
-    logger.debug("sending mail to " + Arrays.toString(emailChannel.getMailAddresses()));
+    logger.debug("sending mail to " + Arrays.toString(mailAddresses));
     logger.debug("mail content is: " + notification.getContent());
 
     try {
       record.setSent(System.currentTimeMillis());
-      mailSender.send(msg);
+      mailDeliveryService.send(msg);
       record.setStatus(TransmissionStatus.SENT);
       record.setResponse("SMTP server received");
     } catch (MailException e) {
@@ -79,6 +187,24 @@ public class EMAILSendingService extends AbstractSendingService {
     return record;
   }
 
+  /**
+   * A delivery split over several mails is only sent when all of them are.
+   */
+  private TransmissionRecord merge(List<TransmissionRecord> records) {
+    TransmissionRecord merged = new TransmissionRecord();
+    merged.setSent(records.get(0).getSent());
+    merged.setStatus(TransmissionStatus.SENT);
+    merged.setResponse(records.get(0).getResponse());
+    for (TransmissionRecord record : records) {
+      if (record.getStatus() != TransmissionStatus.SENT) {
+        merged.setStatus(record.getStatus());
+        merged.setResponse(record.getResponse());
+        break;
+      }
+    }
+    return merged;
+  }
+
   @Override
   protected void checkParameters(Notification notification, Channel channel) {
     super.checkParameters(notification, channel);
@@ -24,6 +24,7 @@ import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.NotificationStatus;
 import org.edgexfoundry.support.domain.notifications.Subscription;
 import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
@@ -57,7 +58,7 @@ public class EscalationServiceImpl implements EscalationService {
   @Autowired
   private SubscriptionDAO subscriptionDAO;
 
-  @Async
+  @Async(AsyncExecutorConfig.ESCALATION_EXECUTOR)
   @Override
   public void escalate(Transmission transmission) {
     if (transmission == null) {
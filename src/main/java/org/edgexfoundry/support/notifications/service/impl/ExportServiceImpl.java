@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.dao.NotificationDAO;
+import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exports by walking a database cursor and writing every document to the response as soon as it
+ * is read. The cursor only fetches its next batch once the previous one has been written, so a
+ * slow client holds back the reads instead of the service buffering the result, and the heap only
+ * ever holds one batch no matter how large the export is.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+  private static final byte NEWLINE = '\n';
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private NotificationDAO notificationDAO;
+
+  @Autowired
+  private TransmissionDAO transmissionDAO;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Value("${application.export.flushInterval}")
+  private int flushInterval;
+
+  @Override
+  public long exportNotifications(long start, long end, String[] labels, OutputStream out)
+      throws IOException {
+    logger.debug("exporting notifications created between " + start + " and " + end);
+    long exported =
+        write(notificationDAO.streamByCreatedBetweenAndLabelsIn(start, end, labels), out);
+    logger.info("exported " + exported + " notification(s)");
+    return exported;
+  }
+
+  @Override
+  public long exportTransmissions(long start, long end, TransmissionStatus status,
+      OutputStream out) throws IOException {
+    logger.debug("exporting transmissions created between " + start + " and " + end);
+    long exported =
+        write(transmissionDAO.streamByCreatedBetweenAndStatus(start, end, status), out);
+    logger.info("exported " + exported + " transmission(s)");
+    return exported;
+  }
+
+  private <T> long write(CloseableIterator<T> cursor, OutputStream out) throws IOException {
+    long written = 0;
+    try (CloseableIterator<T> documents = cursor) {
+      while (documents.hasNext()) {
+        out.write(objectMapper.writeValueAsBytes(documents.next()));
+        out.write(NEWLINE);
+        written++;
+        // an interval below 1 only flushes once the export is complete
+        if (flushInterval > 0 && written % flushInterval == 0) {
+          out.flush();
+        }
+      }
+    }
+    out.flush();
+    return written;
+  }
+
+}
@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.dao.NormalizedFields;
+import org.edgexfoundry.support.notifications.domain.IndexStatus;
+import org.edgexfoundry.support.notifications.service.IndexManager;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.AggregationOutput;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Declares the indexes which the finders of the notification, transmission and subscription
+ * repositories need, creates the missing ones at startup and compares them with what the database
+ * actually has. Range queries on created are served by indexes in created DESC order, the order
+ * in which the handlers page their results, so that a limited page is read straight from the
+ * index instead of being sorted in memory.
+ */
+@Service
+public class IndexManagerImpl implements IndexManager {
+
+  private static final String ID_INDEX_NAME = "_id_";
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private RetentionPolicy retentionPolicy;
+
+  @Value("${application.index.provision}")
+  private boolean provisionOnStartup;
+
+  @PostConstruct
+  public void init() {
+    if (!provisionOnStartup) {
+      return;
+    }
+    try {
+      provision();
+    } catch (Exception e) {
+      logger.error("indexes cannot be provisioned: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void provision() {
+    for (IndexDefinition definition : declare()) {
+      IndexOperations indexOps = mongoTemplate.indexOps(definition.collection);
+      if (find(indexOps.getIndexInfo(), definition) != null) {
+        continue;
+      }
+      try {
+        indexOps.ensureIndex(definition.toIndex());
+        logger.info("index " + definition.getName() + " is created on " + definition.collection);
+      } catch (Exception e) {
+        logger.error("index " + definition.getName() + " cannot be created on "
+            + definition.collection + ": " + e.getMessage(), e);
+      }
+    }
+  }
+
+  @Override
+  public List<IndexStatus> getIndexStatuses() {
+    Map<String, List<IndexDefinition>> definitions = declare().stream().collect(Collectors
+        .groupingBy(definition -> definition.collection, LinkedHashMap::new, Collectors.toList()));
+
+    List<IndexStatus> statuses = new ArrayList<>();
+    definitions.forEach((collection, declared) -> {
+      List<IndexInfo> existing = new ArrayList<>(mongoTemplate.indexOps(collection).getIndexInfo());
+      Map<String, Long> accesses = getAccesses(collection);
+      for (IndexDefinition definition : declared) {
+        IndexInfo info = find(existing, definition);
+        if (info == null) {
+          statuses.add(new IndexStatus(collection, definition.getName(), definition.describe(),
+              IndexStatus.State.MISSING));
+        } else {
+          existing.remove(info);
+          statuses.add(toStatus(collection, info, IndexStatus.State.PRESENT, accesses));
+        }
+      }
+      for (IndexInfo info : existing) {
+        statuses.add(toStatus(collection, info, ID_INDEX_NAME.equals(info.getName())
+            ? IndexStatus.State.PRESENT : IndexStatus.State.UNDECLARED, accesses));
+      }
+    });
+    return statuses;
+  }
+
+  private List<IndexDefinition> declare() {
+    String notifications = mongoTemplate.getCollectionName(Notification.class);
+    String transmissions = mongoTemplate.getCollectionName(Transmission.class);
+    String subscriptions = mongoTemplate.getCollectionName(Subscription.class);
+
+    List<IndexDefinition> definitions = new ArrayList<>();
+    // slug integrity on every ingest, the case-insensitive lookups go by the normalized copies
+    definitions.add(new IndexDefinition(notifications).on("slug", Direction.ASC).unique());
+    definitions.add(new IndexDefinition(notifications).on(NormalizedFields.SLUG, Direction.ASC));
+    // created between/after/before, paged by created DESC, and the keyset pages on (created, id)
+    definitions.add(new IndexDefinition(notifications).on("created", Direction.DESC)
+        .on("_id", Direction.DESC));
+    definitions.add(new IndexDefinition(notifications).on(NormalizedFields.SENDER, Direction.ASC)
+        .on("created", Direction.DESC));
+    definitions.add(new IndexDefinition(notifications).on(NormalizedFields.LABELS, Direction.ASC)
+        .on("created", Direction.DESC));
+    definitions.add(new IndexDefinition(notifications).on("status", Direction.ASC)
+        .on("created", Direction.DESC));
+    // findBySeverityAndStatus and the id-ordered pages of the normal distribution
+    definitions.add(new IndexDefinition(notifications).on("severity", Direction.ASC)
+        .on("status", Direction.ASC).on("_id", Direction.ASC));
+    // cleanup of aged notifications, of one status or of any status
+    definitions.add(new IndexDefinition(notifications).on("status", Direction.ASC)
+        .on("modified", Direction.ASC));
+    definitions.add(new IndexDefinition(notifications).on("modified", Direction.ASC));
+
+    definitions.add(new IndexDefinition(transmissions).on("created", Direction.DESC)
+        .on("_id", Direction.DESC));
+    definitions.add(new IndexDefinition(transmissions).on(notificationIdPath(), Direction.ASC)
+        .on("created", Direction.DESC));
+    definitions.add(new IndexDefinition(transmissions).on("status", Direction.ASC)
+        .on("created", Direction.DESC));
+    definitions.add(new IndexDefinition(transmissions).on("status", Direction.ASC)
+        .on("resendCount", Direction.ASC));
+    definitions.add(new IndexDefinition(transmissions).on("status", Direction.ASC)
+        .on("modified", Direction.ASC));
+
+    definitions.add(new IndexDefinition(subscriptions).on("slug", Direction.ASC).unique());
+    definitions.add(new IndexDefinition(subscriptions).on(NormalizedFields.SLUG, Direction.ASC));
+    definitions.add(new IndexDefinition(subscriptions)
+        .on(NormalizedFields.SUBSCRIBED_CATEGORIES, Direction.ASC));
+    definitions.add(new IndexDefinition(subscriptions)
+        .on(NormalizedFields.SUBSCRIBED_LABELS, Direction.ASC));
+    definitions
+        .add(new IndexDefinition(subscriptions).on(NormalizedFields.RECEIVER, Direction.ASC));
+
+    if (retentionPolicy.isEnabled()) {
+      definitions.add(new IndexDefinition(notifications).on(RetentionPolicy.EXPIRY_FIELD,
+          Direction.ASC).expiring(RetentionPolicy.TTL_INDEX_NAME));
+      definitions.add(new IndexDefinition(transmissions).on(RetentionPolicy.EXPIRY_FIELD,
+          Direction.ASC).expiring(RetentionPolicy.TTL_INDEX_NAME));
+    }
+    return definitions;
+  }
+
+  /**
+   * Transmissions refer to their notification either by DBRef or embedded, which decides the path
+   * of its id.
+   */
+  private String notificationIdPath() {
+    MongoPersistentProperty property = mongoTemplate.getConverter().getMappingContext()
+        .getPersistentEntity(Transmission.class).getPersistentProperty("notification");
+    return property != null && property.isDbReference() ? "notification.$id" : "notification._id";
+  }
+
+  private IndexInfo find(List<IndexInfo> existing, IndexDefinition definition) {
+    for (IndexInfo info : existing) {
+      if (definition.matches(info.getIndexFields())) {
+        return info;
+      }
+    }
+    return null;
+  }
+
+  private IndexStatus toStatus(String collection, IndexInfo info, IndexStatus.State state,
+      Map<String, Long> accesses) {
+    String keys = info.getIndexFields().stream()
+        .map(field -> field.getKey() + ":" + directionOf(field.getDirection()))
+        .collect(Collectors.joining(", "));
+    IndexStatus status = new IndexStatus(collection, info.getName(), keys, state);
+    Long count = accesses.get(info.getName());
+    if (count != null) {
+      status.setAccesses(count);
+      status.setUnused(count == 0 && !ID_INDEX_NAME.equals(info.getName()));
+    }
+    return status;
+  }
+
+  /**
+   * Read the access counters of the indexes of a collection, which MongoDB 3.2 and later report
+   * through the $indexStats aggregation stage.
+   */
+  private Map<String, Long> getAccesses(String collection) {
+    Map<String, Long> accesses = new HashMap<>();
+    try {
+      DBObject indexStats = new BasicDBObject("$indexStats", new BasicDBObject());
+      AggregationOutput output = mongoTemplate.getCollection(collection)
+          .aggregate(Collections.singletonList(indexStats));
+      for (DBObject stats : output.results()) {
+        Object ops = ((DBObject) stats.get("accesses")).get("ops");
+        accesses.put((String) stats.get("name"), ((Number) ops).longValue());
+      }
+    } catch (Exception e) {
+      logger.debug("index usage of " + collection + " is unknown: " + e.getMessage());
+    }
+    return accesses;
+  }
+
+  private static String directionOf(Direction direction) {
+    if (direction == null) {
+      return "special";
+    }
+    return direction == Direction.ASC ? "1" : "-1";
+  }
+
+  private static final class IndexDefinition {
+
+    private final String collection;
+    private final Map<String, Direction> fields = new LinkedHashMap<>();
+    private boolean unique;
+    private String name;
+    private boolean expiring;
+
+    IndexDefinition(String collection) {
+      this.collection = collection;
+    }
+
+    IndexDefinition on(String field, Direction direction) {
+      fields.put(field, direction);
+      return this;
+    }
+
+    IndexDefinition unique() {
+      this.unique = true;
+      return this;
+    }
+
+    /**
+     * Expire documents at the date stored in the (single) field of the index.
+     */
+    IndexDefinition expiring(String name) {
+      this.expiring = true;
+      this.name = name;
+      return this;
+    }
+
+    String getName() {
+      if (name != null) {
+        return name;
+      }
+      return fields.entrySet().stream()
+          .map(field -> field.getKey() + "_" + directionOf(field.getValue()))
+          .collect(Collectors.joining("_"));
+    }
+
+    String describe() {
+      return fields.entrySet().stream()
+          .map(field -> field.getKey() + ":" + directionOf(field.getValue()))
+          .collect(Collectors.joining(", "));
+    }
+
+    boolean matches(List<IndexField> indexFields) {
+      if (indexFields.size() != fields.size()) {
+        return false;
+      }
+      int i = 0;
+      for (Map.Entry<String, Direction> field : fields.entrySet()) {
+        IndexField indexField = indexFields.get(i++);
+        if (!field.getKey().equals(indexField.getKey())
+            || field.getValue() != indexField.getDirection()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    Index toIndex() {
+      Index index = new Index();
+      fields.forEach(index::on);
+      index.named(getName()).background();
+      if (unique) {
+        index.unique();
+      }
+      if (expiring) {
+        index.expire(0);
+      }
+      return index;
+    }
+
+  }
+
+}
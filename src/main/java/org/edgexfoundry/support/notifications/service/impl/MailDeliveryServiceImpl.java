@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
+import org.edgexfoundry.support.notifications.config.MailChannelProperties;
+import org.edgexfoundry.support.notifications.service.MailDeliveryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sends mails over one long-lived SMTP connection. Senders queue their mails and wait; a single
+ * delivery loop on the mail delivery executor collects the mails queued within the batch window
+ * and sends them together over the connection, which is kept open between batches, reopened when
+ * the server has dropped it, and closed once it has been idle for the idle timeout. The window is
+ * cut short once every busy email sender thread waits for a mail of the batch, since no further
+ * mail can arrive before the batch is sent. The queue is bounded: a mail which does not fit fails
+ * right away, like any other mail the server refuses.
+ */
+@Service
+public class MailDeliveryServiceImpl implements MailDeliveryService {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private JavaMailSender mailSender;
+
+  @Autowired
+  private MailChannelProperties mailChannelProps;
+
+  @Autowired
+  @Qualifier(AsyncExecutorConfig.MAIL_DELIVERY_EXECUTOR)
+  private AsyncTaskExecutor mailDeliveryExecutor;
+
+  @Autowired
+  @Qualifier(AsyncExecutorConfig.EMAIL_SEND_EXECUTOR)
+  private ThreadPoolTaskExecutor emailSendExecutor;
+
+  private final AtomicInteger waitingSenders = new AtomicInteger();
+
+  private BlockingQueue<PendingMail> queue;
+
+  private Future<?> delivery;
+
+  private volatile boolean running;
+
+  private Transport transport;
+
+  @PostConstruct
+  public void start() {
+    queue = new ArrayBlockingQueue<>(Math.max(1, mailChannelProps.getQueueCapacity()));
+    running = true;
+    delivery = mailDeliveryExecutor.submit(this::deliverQueuedMails);
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (delivery != null) {
+      delivery.cancel(true);
+    }
+  }
+
+  @Override
+  public void send(SimpleMailMessage message) {
+    PendingMail mail = new PendingMail(message);
+    waitingSenders.incrementAndGet();
+    try {
+      if (!queue.offer(mail)) {
+        throw new MailSendException("mail queue is full, capacity "
+            + mailChannelProps.getQueueCapacity() + " is reached");
+      }
+      mail.result.get(mailChannelProps.getSendTimeout(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof MailException ? (MailException) e.getCause()
+          : new MailSendException(e.getCause().getMessage(), e.getCause());
+    } catch (TimeoutException e) {
+      queue.remove(mail);
+      throw new MailSendException("mail is not sent within the send timeout", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MailSendException("interrupted while waiting for the mail to be sent", e);
+    } finally {
+      waitingSenders.decrementAndGet();
+    }
+  }
+
+  private void deliverQueuedMails() {
+    while (running) {
+      try {
+        PendingMail first = queue.poll(mailChannelProps.getIdleTimeout(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          closeTransport();
+          continue;
+        }
+
+        List<PendingMail> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.currentTimeMillis() + mailChannelProps.getBatchWindow();
+        while (batch.size() < mailChannelProps.getBatchMaxSize()) {
+          PendingMail next = queue.poll();
+          if (next == null) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0 || allSendersWaiting()) {
+              break;
+            }
+            next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+              break;
+            }
+          }
+          batch.add(next);
+        }
+
+        logger.debug("sending a batch of " + batch.size() + " mail(s)");
+        deliver(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        logger.error("mail delivery failed: " + e.getMessage(), e);
+      }
+    }
+    closeTransport();
+  }
+
+  /**
+   * With the queue drained, every waiting sender has its mail in the batch; if those are all the
+   * busy email sender threads, nothing else would be sent within the batch window.
+   */
+  private boolean allSendersWaiting() {
+    return waitingSenders.get() >= emailSendExecutor.getActiveCount();
+  }
+
+  private void deliver(List<PendingMail> batch) {
+    if (!(mailSender instanceof JavaMailSenderImpl)) {
+      deliverWithMailSender(batch);
+      return;
+    }
+
+    JavaMailSenderImpl senderImpl = (JavaMailSenderImpl) mailSender;
+    MailSendException connectFailure = null;
+    for (PendingMail mail : batch) {
+      if (connectFailure != null) {
+        mail.result.completeExceptionally(connectFailure);
+        continue;
+      }
+      try {
+        connectTransport(senderImpl);
+      } catch (MessagingException e) {
+        logger.error("cannot connect to the SMTP server: " + e.getMessage(), e);
+        connectFailure =
+            new MailSendException("cannot connect to the SMTP server: " + e.getMessage(), e);
+        mail.result.completeExceptionally(connectFailure);
+        continue;
+      }
+
+      try {
+        MimeMessage mimeMessage = senderImpl.createMimeMessage();
+        mail.message.copyTo(new MimeMailMessage(mimeMessage));
+        mimeMessage.setSentDate(new Date());
+        mimeMessage.saveChanges();
+        transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+        mail.result.complete(null);
+      } catch (MessagingException | IllegalStateException e) {
+        logger.error(e.getMessage(), e);
+        mail.result.completeExceptionally(new MailSendException(e.getMessage(), e));
+        // the connection is dropped if the failure broke it, the next mail reconnects
+        if (!transport.isConnected()) {
+          closeTransport();
+        }
+      }
+    }
+  }
+
+  /**
+   * Without access to the JavaMail session, hand the whole batch to the mail sender, which sends
+   * it over one connection as well.
+   */
+  private void deliverWithMailSender(List<PendingMail> batch) {
+    SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+    for (int i = 0; i < batch.size(); i++) {
+      messages[i] = batch.get(i).message;
+    }
+    Map<Object, Exception> failedMessages = null;
+    try {
+      mailSender.send(messages);
+    } catch (MailSendException e) {
+      failedMessages = e.getFailedMessages();
+      if (failedMessages.isEmpty()) {
+        batch.forEach(mail -> mail.result.completeExceptionally(e));
+        return;
+      }
+    } catch (MailException e) {
+      batch.forEach(mail -> mail.result.completeExceptionally(e));
+      return;
+    }
+
+    for (PendingMail mail : batch) {
+      Exception failure = failedMessages == null ? null : failedMessages.get(mail.message);
+      if (failure == null) {
+        mail.result.complete(null);
+      } else {
+        mail.result.completeExceptionally(new MailSendException(failure.getMessage(), failure));
+      }
+    }
+  }
+
+  private void connectTransport(JavaMailSenderImpl senderImpl) throws MessagingException {
+    if (transport != null) {
+      if (transport.isConnected()) {
+        return;
+      }
+      logger.debug("the SMTP server has dropped the idle connection, reconnecting");
+      closeTransport();
+    }
+    String protocol = senderImpl.getProtocol() == null ? "smtp" : senderImpl.getProtocol();
+    Transport connecting = senderImpl.getSession().getTransport(protocol);
+    connecting.connect(senderImpl.getHost(), senderImpl.getPort(),
+        emptyToNull(senderImpl.getUsername()), emptyToNull(senderImpl.getPassword()));
+    transport = connecting;
+    logger.debug("connected to the SMTP server " + senderImpl.getHost());
+  }
+
+  private void closeTransport() {
+    if (transport == null) {
+      return;
+    }
+    try {
+      transport.close();
+      logger.debug("closed the idle SMTP connection");
+    } catch (MessagingException e) {
+      logger.debug("failed to close the SMTP connection: " + e.getMessage());
+    }
+    transport = null;
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static final class PendingMail {
+
+    private final SimpleMailMessage message;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    PendingMail(SimpleMailMessage message) {
+      this.message = message;
+    }
+
+  }
+
+}
@@ -18,19 +18,30 @@
 
 package org.edgexfoundry.support.notifications.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PostConstruct;
 
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
 import org.edgexfoundry.support.domain.notifications.NotificationStatus;
-import org.edgexfoundry.support.notifications.GlobalVariables;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
+import org.edgexfoundry.support.notifications.config.LatencyProperties;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
 import org.edgexfoundry.support.notifications.service.DistributionTaskExecutor;
+import org.edgexfoundry.support.notifications.service.WorkSignal;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -45,37 +56,123 @@ public class NormalSeverityDistributionExecutor implements DistributionTaskExecu
   @Autowired
   DistributionCoordinator distributionCoordinator;
 
-  @Scheduled(fixedDelayString = "${application.scheduler.normal.duration}")
-  @Async
+  @Autowired
+  private WorkSignal workSignal;
+
+  @Value("${application.scheduler.normal.pageSize}")
+  private int pageSize;
+
+  @Autowired
+  private LatencyProperties latencyProperties;
+
+  @Autowired
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Autowired
+  @Qualifier(AsyncExecutorConfig.DISTRIBUTION_EXECUTOR)
+  private AsyncTaskExecutor distributionExecutor;
+
+  private AdaptiveTrigger trigger;
+
+  private ScheduledFuture<?> nextRun;
+
+  @PostConstruct
+  public void init() {
+    workSignal.register(Work.NORMAL_DISTRIBUTION, this::submitDistributing);
+    trigger = new AdaptiveTrigger(latencyProperties.getTarget(NotificationSeverity.NORMAL));
+    scheduleNextRun();
+  }
+
+  /**
+   * The schedule and the signal only hand the run to the distribution executor, so that a long
+   * run does not hold one of the few scheduler threads the other schedules depend on.
+   */
+  private void submitDistributing() {
+    try {
+      distributionExecutor.execute(this::startDistributing);
+    } catch (TaskRejectedException e) {
+      logger.error("normal severity run is rejected: " + e.getMessage());
+      scheduleNextRun();
+    }
+  }
+
+  /**
+   * Schedule the next run the current interval after now, replacing the pending one, so that the
+   * schedule counts from the completion of the last run however it was started.
+   */
+  private synchronized void scheduleNextRun() {
+    if (trigger == null) {
+      return;
+    }
+    if (nextRun != null) {
+      nextRun.cancel(false);
+    }
+    nextRun = scheduler.schedule(this::submitDistributing,
+        trigger.nextExecutionTime(System.currentTimeMillis()));
+    logger.debug("next normal severity scheduler run in " + trigger.getInterval() + " ms");
+  }
+
+  /**
+   * Distribute the new normal notifications page by page in id order, so that only one page is
+   * held in memory. Each page is handed to the coordinator as a whole and then marked processed
+   * with one bulk update. Runs as soon as new normal notifications are signalled and on an
+   * adaptive schedule, which comes back quickly while there is a backlog and backs off to the
+   * latency target of the normal severity while there is none.
+   */
+  @Async(AsyncExecutorConfig.DISTRIBUTION_EXECUTOR)
   @Override
   public void startDistributing() {
     logger.info("normal severity scheduler is triggered.");
-    GlobalVariables vars = GlobalVariables.getInstance();
-    if (vars.getTheLatestNormalSchedulerProcessed() > vars
-        .getTheLatestNormalNotificationCreated()) {
-      logger.info("there is no new normal notification. scheduler is ended.");
+    long token = workSignal.begin(Work.NORMAL_DISTRIBUTION);
+    if (token == WorkSignal.NONE) {
+      // the run which is going on adapts and schedules the next run once it completes
+      logger.info("another normal severity run is still going on. scheduler is ended.");
       return;
     }
 
-    List<Notification> notifications;
+    long done = WorkSignal.NONE;
+    int total = 0;
     try {
-      notifications = notificationDAO.findBySeverityAndStatus(NotificationSeverity.NORMAL,
-          NotificationStatus.NEW);
-
-      for (Notification notification : notifications) {
-        distributionCoordinator.distribute(notification);
-        notification.setStatus(NotificationStatus.PROCESSED);
-        notificationDAO.save(notification);
-      }
+      String lastId = null;
+      List<Notification> page;
+      do {
+        page = notificationDAO.findBySeverityAndStatusAfterId(NotificationSeverity.NORMAL,
+            NotificationStatus.NEW, lastId, pageSize);
+        if (page.isEmpty()) {
+          break;
+        }
+
+        distributionCoordinator.distributeBatch(page);
+
+        List<String> ids = new ArrayList<>(page.size());
+        for (Notification notification : page) {
+          ids.add(notification.getId());
+        }
+        notificationDAO.updateStatusByIdIn(ids, NotificationStatus.PROCESSED);
+
+        lastId = ids.get(ids.size() - 1);
+        total += page.size();
+        logger.debug("normal severity scheduler has processed a page of " + page.size()
+            + " notification(s)");
+      } while (page.size() >= pageSize);
+      done = token;
+      adapt(total > 0);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
+    } finally {
+      workSignal.finish(Work.NORMAL_DISTRIBUTION, done);
+      scheduleNextRun();
     }
 
-    vars.setTheLatestNormalSchedulerProcessed(System.currentTimeMillis());
+    logger.info("normal severity scheduler has processed completely. there are(is) " + total
+        + " new notificaion(s)");
+  }
 
-    logger.info("normal severity scheduler has processed completely. there are(is) "
-        + notifications.size() + " new notificaion(s)");
+  private void adapt(boolean foundWork) {
+    if (trigger != null) {
+      trigger.completed(foundWork);
+    }
   }
 
 }
@@ -19,16 +19,20 @@
 package org.edgexfoundry.support.notifications.service.impl;
 
 import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
 
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Transmission;
-import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
-import org.edgexfoundry.support.notifications.GlobalVariables;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
 import org.edgexfoundry.support.notifications.service.ResendTaskExecutor;
+import org.edgexfoundry.support.notifications.service.WorkSignal;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -48,34 +52,61 @@ public class NormalSeverityResendExecutor implements ResendTaskExecutor {
   @Autowired
   private GeneralConfig generalConfig;
 
+  @Autowired
+  private WorkSignal workSignal;
+
+  @Value("${application.scheduler.normal.resend.batchSize}")
+  private int batchSize;
+
+  @Value("${application.scheduler.normal.resend.lease}")
+  private long lease;
+
+  /**
+   * Identifies the claims of this service instance.
+   */
+  private final String owner = UUID.randomUUID().toString();
+
+  @PostConstruct
+  public void init() {
+    workSignal.register(Work.NORMAL_RESEND, this::startResnding);
+  }
+
   @Scheduled(fixedDelayString = "${application.scheduler.normal.resend.duration}")
   @Async
   @Override
   public void startResnding() {
     logger.info("normal severity resend scheduler is triggered.");
-    GlobalVariables vars = GlobalVariables.getInstance();
-    if (vars.getTheLatestNormalResendProcessed() > vars.getTheLatestNormalTransmissionFailed()) {
-      logger.info("there is no failed normal notification. scheduler is ended.");
+    long token = workSignal.begin(Work.NORMAL_RESEND);
+    if (token == WorkSignal.NONE) {
+      logger.info("another normal severity resend is still running. scheduler is ended.");
       return;
     }
 
-    List<Transmission> transmissions;
+    long started = System.currentTimeMillis();
+    long done = WorkSignal.NONE;
+    int resent = 0;
     try {
-      transmissions = transmissionDAO.findByStatusAndResendCountLessThan(TransmissionStatus.FAILED,
-          generalConfig.getResendLimit());
+      List<Transmission> transmissions;
+      do {
+        long now = System.currentTimeMillis();
+        transmissions = transmissionDAO.claimFailed(generalConfig.getResendLimit(), started, owner,
+            now, now + lease, batchSize);
 
-      for (Transmission transmission : transmissions) {
-        distributionCoordinator.resendViaChannel(transmission);
-      }
+        for (Transmission transmission : transmissions) {
+          distributionCoordinator.resendViaChannel(transmission);
+        }
+        resent += transmissions.size();
+      } while (!transmissions.isEmpty() && transmissions.size() >= batchSize);
+      done = token;
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
+    } finally {
+      workSignal.finish(Work.NORMAL_RESEND, done);
     }
 
-    vars.setTheLatestNormalResendProcessed(System.currentTimeMillis());
-
     logger.info("normal severity resend scheduler has processed completely. there are(is) "
-        + transmissions.size() + " failed transmission(s)");
+        + resent + " failed transmission(s)");
   }
 
 }
@@ -21,9 +21,15 @@ package org.edgexfoundry.support.notifications.service.impl;
 import static org.edgexfoundry.support.notifications.GlobalVariables.RECORD_CREATION_FIELD;
 
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+import org.bson.types.ObjectId;
 import org.edgexfoundry.exception.controller.ClientException;
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.exception.controller.NotFoundException;
@@ -31,11 +37,21 @@ import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
 import org.edgexfoundry.support.domain.notifications.NotificationStatus;
-import org.edgexfoundry.support.notifications.GlobalVariables;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult.Status;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
+import org.edgexfoundry.support.notifications.service.CleanupService;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
 import org.edgexfoundry.support.notifications.service.NotificationHandler;
+import org.edgexfoundry.support.notifications.service.RateLimiter;
+import org.edgexfoundry.support.notifications.service.RateLimiter.Scope;
+import org.edgexfoundry.support.notifications.service.SuppressionEngine;
+import org.edgexfoundry.support.notifications.service.WorkSignal;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
@@ -48,6 +64,10 @@ public class NotificationHandlerImpl implements NotificationHandler {
 
   private static final String IN_LIMIT = " in limit=";
 
+  private static final String DUPLICATED_SLUG = "duplicated notification slug: ";
+
+  private static final String SUPPRESSED_REPEAT = "repeat of notification slug=%s is suppressed";
+
   private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
       org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
 
@@ -60,8 +80,20 @@ public class NotificationHandlerImpl implements NotificationHandler {
   @Autowired
   private DistributionCoordinator distributionCoordinator;
 
+  @Autowired
+  private CleanupService cleanupService;
+
+  @Autowired
+  private WorkSignal workSignal;
+
+  @Autowired
+  private SuppressionEngine suppressionEngine;
+
+  @Autowired
+  private RateLimiter rateLimiter;
+
   @Override
-  public void receiveNotification(Notification notification) {
+  public BatchItemResult receiveNotification(Notification notification) {
     if (notification == null) {
       logger.error("NotificationHandler received a null object");
       throw new ClientException("Notification is null");
@@ -69,6 +101,19 @@ public class NotificationHandlerImpl implements NotificationHandler {
 
     logger.debug("NotificationHandler has received a new notification: " + notification.toString());
 
+    BatchItemResult result = new BatchItemResult(0, notification.getSlug());
+    if (isRateLimited(notification, result)) {
+      return result;
+    }
+
+    String fingerprint = suppressionEngine.fingerprint(notification);
+    Occurrence original = suppressionEngine.suppress(fingerprint, 1);
+    if (original != null) {
+      logger.debug("The notification is a suppressed repeat: slug=" + notification.getSlug());
+      suppressed(result, original.getSlug());
+      return result;
+    }
+
     notification.setStatus(NotificationStatus.NEW);
     try {
       notification = notificationDAO.insert(notification);
@@ -76,6 +121,7 @@ public class NotificationHandlerImpl implements NotificationHandler {
       logger.info(e.getMessage(), e);
       throw new DataValidationException("duplicated notification slug: " + notification.getSlug());
     }
+    suppressionEngine.track(notification, fingerprint, 1);
     if (notification.getSeverity() == NotificationSeverity.CRITICAL) {
       distributionCoordinator.distribute(notification);
       notification.setStatus(NotificationStatus.PROCESSED);
@@ -83,10 +129,82 @@ public class NotificationHandlerImpl implements NotificationHandler {
       logger
           .debug("The critical notificaiton has been distributing: slug=" + notification.getSlug());
     } else if (notification.getSeverity() == NotificationSeverity.NORMAL) {
-      GlobalVariables.getInstance()
-          .setTheLatestNormalNotificationCreated(notification.getCreated());
+      workSignal.signal(Work.NORMAL_DISTRIBUTION);
       logger.debug("The normal notificaiton has been persisted: slug=" + notification.getSlug());
     }
+    result.accept();
+    return result;
+  }
+
+  @Override
+  public List<BatchItemResult> receiveNotifications(List<Notification> notifications) {
+    if (notifications == null) {
+      logger.error("NotificationHandler received a null object");
+      throw new ClientException("Notification batch is null");
+    }
+
+    logger.debug("NotificationHandler has received a batch of " + notifications.size()
+        + " notification(s)");
+
+    List<BatchItemResult> results = new ArrayList<>(notifications.size());
+    List<Notification> candidates = new ArrayList<>();
+    List<BatchItemResult> candidateResults = new ArrayList<>();
+    Set<String> batchSlugs = new HashSet<>();
+    for (int i = 0; i < notifications.size(); i++) {
+      Notification notification = notifications.get(i);
+      String slug = notification == null ? null : notification.getSlug();
+      BatchItemResult result = new BatchItemResult(i, slug);
+      results.add(result);
+      if (notification == null) {
+        result.reject(Status.INVALID, "notification is null.");
+      } else if (slug == null || slug.isEmpty()) {
+        result.reject(Status.INVALID, "slug is null or empty.");
+      } else if (!batchSlugs.add(slug.toLowerCase(Locale.ROOT))) {
+        result.reject(Status.DUPLICATED, DUPLICATED_SLUG + slug);
+      } else {
+        candidates.add(notification);
+        candidateResults.add(result);
+      }
+    }
+
+    Set<String> existingSlugs = findExistingSlugs(candidates);
+    List<Notification> accepted = new ArrayList<>();
+    List<BatchItemResult> acceptedResults = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      Notification notification = candidates.get(i);
+      if (existingSlugs.contains(notification.getSlug().toLowerCase(Locale.ROOT))) {
+        candidateResults.get(i).reject(Status.DUPLICATED, DUPLICATED_SLUG + notification.getSlug());
+      } else if (!isRateLimited(notification, candidateResults.get(i))) {
+        notification.setStatus(NotificationStatus.NEW);
+        accepted.add(notification);
+        acceptedResults.add(candidateResults.get(i));
+      }
+    }
+
+    List<Integer> occurrences = suppressRepeats(accepted, acceptedResults);
+
+    if (!accepted.isEmpty()) {
+      insertAll(accepted, acceptedResults);
+      track(accepted, acceptedResults, occurrences);
+      dispatch(accepted, acceptedResults);
+    }
+    return results;
+  }
+
+  @Override
+  public Occurrence findOccurrence(String slug) {
+    logger.debug("NotificationHandler is finding the occurrences of notification slug=" + slug);
+    Notification notification = notificationDAO.findBySlugIgnoreCase(slug);
+    if (notification == null) {
+      logger.info("the notification doesn't exist: slug=" + slug);
+      throw new NotFoundException(Notification.class.toString(), slug);
+    }
+    Occurrence occurrence = suppressionEngine.findOccurrence(notification);
+    if (occurrence == null) {
+      occurrence = new Occurrence(notification.getId(), notification.getSlug(), null, 1,
+          notification.getCreated());
+    }
+    return occurrence;
   }
 
   @Override
@@ -134,6 +252,26 @@ public class NotificationHandlerImpl implements NotificationHandler {
       return new ArrayList<>();
   }
 
+  @Override
+  public ResultPage<Notification> findByCreatedDuration(long start, long end, String cursor,
+      int limit) {
+    logger.debug("NotificationHandler is finding notifications by created between " + start
+        + " and " + end + " after cursor=" + cursor + IN_LIMIT + limit);
+    if (limit < 1) {
+      throw new ClientException("page limit must be positive: " + limit);
+    }
+    PageCursor after;
+    try {
+      after = PageCursor.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ClientException("invalid page cursor: " + cursor);
+    }
+    List<Notification> notifications =
+        notificationDAO.findByCreatedBetweenAfterCursor(start, end, after, limit + 1);
+    return ResultPage.of(notifications, limit,
+        notification -> new PageCursor(notification.getCreated(), notification.getId()));
+  }
+
   @Override
   public List<Notification> findByCreatedAfter(long start) {
     logger.debug("NotificationHandler is finding notifications by created after" + start);
@@ -212,6 +350,48 @@ public class NotificationHandlerImpl implements NotificationHandler {
       return new ArrayList<>();
   }
 
+  @Override
+  public List<Notification> searchSummariesBySender(String sender, int limit) {
+    logger.debug("NotificationHandler is finding notification summaries by sender=" + sender
+        + IN_LIMIT + limit);
+    return notificationDAO.findSummariesBySenderLikeIgnoreCase(sender, newestFirst(limit));
+  }
+
+  @Override
+  public List<Notification> findSummariesByCreatedDuration(long start, long end, int limit) {
+    logger.debug("NotificationHandler is finding notification summaries by created between "
+        + start + " and " + end + IN_LIMIT + limit);
+    return notificationDAO.findSummariesByCreatedBetween(start, end, newestFirst(limit));
+  }
+
+  @Override
+  public List<Notification> findSummariesByCreatedAfter(long start, int limit) {
+    logger.debug("NotificationHandler is finding notification summaries by created after "
+        + start + IN_LIMIT + limit);
+    return notificationDAO.findSummariesByCreatedAfter(start, newestFirst(limit));
+  }
+
+  @Override
+  public List<Notification> findSummariesByCreatedBefore(long end, int limit) {
+    logger.debug("NotificationHandler is finding notification summaries by created before " + end
+        + IN_LIMIT + limit);
+    return notificationDAO.findSummariesByCreatedBefore(end, newestFirst(limit));
+  }
+
+  @Override
+  public List<Notification> findSummariesInLabels(String[] labels, int limit) {
+    logger.debug("NotificationHandler is finding notification summaries by labels="
+        + Arrays.toString(labels) + IN_LIMIT + limit);
+    return notificationDAO.findSummariesByLabelsInIgnoreCase(labels, newestFirst(limit));
+  }
+
+  @Override
+  public List<Notification> findNewNotificationSummaries(int limit) {
+    logger.debug(
+        "NotificationHandler is finding notification summaries by status=NEW" + IN_LIMIT + limit);
+    return notificationDAO.findSummariesByStatus(NotificationStatus.NEW, newestFirst(limit));
+  }
+
   @Override
   public void deleteNotificationAndTransmissionsBySlug(String slug) {
     if (slug == null) {
@@ -242,6 +422,7 @@ public class NotificationHandlerImpl implements NotificationHandler {
 
       logger.debug("NotificationHandler is starting deleting the notification: slug=" + slug);
       notificationDAO.delete(notification);
+      suppressionEngine.untrack(notification);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
@@ -252,33 +433,177 @@ public class NotificationHandlerImpl implements NotificationHandler {
 
   @Override
   public void deleteOldProcessedNotificationsAndTransmissions(long age) {
-    long end = System.currentTimeMillis() - age;
-    Date endDate = new Date(end);
+    cleanupService.cleanupOldProcessed(age);
+  }
 
-    logger.debug(
-        "NotificationHandler is starting processed deleting notifications and transmissions by notifications modified before "
-            + endDate);
 
-    List<Notification> notifications =
-        notificationDAO.findByStatusAndModifiedBefore(NotificationStatus.PROCESSED, end);
+  /**
+   * Take a token of the sender only for a notification which passed the validation, so that
+   * malformed or duplicated notifications do not use up the rate limit of their sender.
+   */
+  private boolean isRateLimited(Notification notification, BatchItemResult result) {
+    long wait = rateLimiter.tryAcquire(Scope.SENDER, notification.getSender());
+    if (wait > 0) {
+      logger.debug("sender " + notification.getSender() + " is over its rate limit: slug="
+          + notification.getSlug());
+      result.reject(Status.RATE_LIMITED, "sender " + notification.getSender()
+          + " is over its rate limit, retry after " + wait + " ms");
+      result.setRetryAfter(wait);
+    }
+    return wait > 0;
+  }
+
+  private static PageRequest newestFirst(int limit) {
+    return new PageRequest(0, limit, new Sort(Sort.Direction.DESC, RECORD_CREATION_FIELD));
+  }
+
+  private Set<String> findExistingSlugs(List<Notification> notifications) {
+    Set<String> existingSlugs = new HashSet<>();
+    if (notifications.isEmpty()) {
+      return existingSlugs;
+    }
+    List<String> slugs = new ArrayList<>(notifications.size());
+    for (Notification notification : notifications) {
+      slugs.add(notification.getSlug());
+    }
+    for (Notification existing : notificationDAO.findBySlugInIgnoreCase(slugs)) {
+      existingSlugs.add(existing.getSlug().toLowerCase(Locale.ROOT));
+    }
+    return existingSlugs;
+  }
+
+  /**
+   * Collapse the repeats among the accepted notifications of a batch. Of the notifications sharing
+   * a fingerprint, all are counted against a recent stored notification if there is one, otherwise
+   * only the first is kept and the others are counted against it once it has been stored. The
+   * suppressed ones are removed from the given lists.
+   *
+   * @return the occurrences which each kept notification stands for
+   */
+  private List<Integer> suppressRepeats(List<Notification> notifications,
+      List<BatchItemResult> results) {
+    List<Integer> occurrences = new ArrayList<>();
+    if (!suppressionEngine.isEnabled()) {
+      notifications.forEach(notification -> occurrences.add(1));
+      return occurrences;
+    }
+    Map<String, List<Integer>> repeats = new LinkedHashMap<>();
+    for (int i = 0; i < notifications.size(); i++) {
+      repeats.computeIfAbsent(suppressionEngine.fingerprint(notifications.get(i)),
+          k -> new ArrayList<>()).add(i);
+    }
+
+    List<Notification> kept = new ArrayList<>();
+    List<BatchItemResult> keptResults = new ArrayList<>();
+    repeats.forEach((fingerprint, indexes) -> {
+      Occurrence original = suppressionEngine.suppress(fingerprint, indexes.size());
+      for (int i = 0; i < indexes.size(); i++) {
+        BatchItemResult result = results.get(indexes.get(i));
+        if (original != null) {
+          suppressed(result, original.getSlug());
+        } else if (i > 0) {
+          suppressed(result, notifications.get(indexes.get(0)).getSlug());
+        } else {
+          kept.add(notifications.get(indexes.get(i)));
+          keptResults.add(result);
+          occurrences.add(indexes.size());
+        }
+      }
+    });
+    notifications.clear();
+    notifications.addAll(kept);
+    results.clear();
+    results.addAll(keptResults);
+    return occurrences;
+  }
+
+  private static void suppressed(BatchItemResult result, String repeatOf) {
+    result.reject(Status.SUPPRESSED, String.format(SUPPRESSED_REPEAT, repeatOf));
+    result.setRepeatOf(repeatOf);
+  }
+
+  private void track(List<Notification> notifications, List<BatchItemResult> results,
+      List<Integer> occurrences) {
+    for (int i = 0; i < notifications.size(); i++) {
+      if (results.get(i).getStatus() == Status.ACCEPTED) {
+        Notification notification = notifications.get(i);
+        suppressionEngine.track(notification, suppressionEngine.fingerprint(notification),
+            occurrences.get(i));
+      }
+    }
+  }
+
+  /**
+   * Insert the notifications with one bulk write. Their ids are assigned up front, so that if a
+   * concurrent request has taken one of the slugs in the meantime, the notifications which made it
+   * into the database can be told apart and only the rest are retried one by one.
+   */
+  private void insertAll(List<Notification> notifications, List<BatchItemResult> results) {
+    List<String> ids = new ArrayList<>(notifications.size());
+    for (Notification notification : notifications) {
+      notification.setId(new ObjectId().toString());
+      ids.add(notification.getId());
+    }
 
     try {
-      logger.debug(
-          "NotificationHandler is starting deleting transmissions by notifications modified before "
-              + endDate);
-      transmissionDAO.deleteByNotificationIn(notifications);
+      notificationDAO.insert(notifications);
+      results.forEach(BatchItemResult::accept);
+      return;
+    } catch (DuplicateKeyException e) {
+      logger.info("bulk insert of the notification batch hit a duplicated slug, "
+          + "inserting the remaining notifications one by one: " + e.getMessage());
+    }
 
-      logger.debug(
-          "NotificationHandler is starting deleting notifications by notifications modified before "
-              + endDate);
-      notificationDAO.delete(notifications);
-    } catch (Exception e) {
-      logger.error(e.getMessage(), e);
-      throw new ServiceException(e);
+    Set<String> insertedIds = new HashSet<>();
+    for (Notification inserted : notificationDAO.findAll(ids)) {
+      insertedIds.add(inserted.getId());
+    }
+    for (int i = 0; i < notifications.size(); i++) {
+      Notification notification = notifications.get(i);
+      BatchItemResult result = results.get(i);
+      if (insertedIds.contains(notification.getId())) {
+        result.accept();
+        continue;
+      }
+      try {
+        notificationDAO.insert(notification);
+        result.accept();
+      } catch (DuplicateKeyException e) {
+        logger.info(e.getMessage(), e);
+        result.reject(Status.DUPLICATED, DUPLICATED_SLUG + notification.getSlug());
+      } catch (Exception e) {
+        logger.error(e.getMessage(), e);
+        result.reject(Status.FAILED, e.getMessage());
+      }
+    }
+  }
+
+  private void dispatch(List<Notification> notifications, List<BatchItemResult> results) {
+    List<Notification> critical = new ArrayList<>();
+    boolean normal = false;
+    for (int i = 0; i < notifications.size(); i++) {
+      Notification notification = notifications.get(i);
+      if (results.get(i).getStatus() != Status.ACCEPTED) {
+        continue;
+      }
+      if (notification.getSeverity() == NotificationSeverity.CRITICAL) {
+        distributionCoordinator.distribute(notification);
+        notification.setStatus(NotificationStatus.PROCESSED);
+        critical.add(notification);
+      } else if (notification.getSeverity() == NotificationSeverity.NORMAL) {
+        normal = true;
+      }
     }
 
-    logger
-        .debug("Deletion operation by notifications modified before " + endDate + " is completed");
+    if (!critical.isEmpty()) {
+      notificationDAO.save(critical);
+      logger.debug(
+          critical.size() + " critical notification(s) of the batch have been distributing");
+    }
+    if (normal) {
+      workSignal.signal(Work.NORMAL_DISTRIBUTION);
+      logger.debug("The normal notifications of the batch have been persisted");
+    }
   }
 
   public void setNotificationDAO(NotificationDAO notificationDAO) {
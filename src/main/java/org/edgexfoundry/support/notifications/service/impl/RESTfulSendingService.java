@@ -19,33 +19,72 @@
 package org.edgexfoundry.support.notifications.service.impl;
 
 import java.net.URI;
+import java.util.List;
 
 import org.edgexfoundry.exception.controller.DataValidationException;
+import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Channel;
 import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.domain.notifications.RESTfulChannel;
+import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
 import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.config.AsyncExecutorConfig;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @Service("RESTfulSendingService")
 public class RESTfulSendingService extends AbstractSendingService {
 
+  private static final String DIGEST_SLUG = "digest";
+
   private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
       org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
 
+  @Autowired
+  private RestTemplate restTemplate;
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Async(AsyncExecutorConfig.REST_SEND_EXECUTOR)
+  @Override
+  public void send(Notification notification, Channel channel, String receiver) {
+    super.send(notification, channel, receiver);
+  }
+
+  @Async(AsyncExecutorConfig.REST_SEND_EXECUTOR)
+  @Override
+  public void sendDigest(List<Notification> notifications, Channel channel, String receiver) {
+    super.sendDigest(notifications, channel, receiver);
+  }
+
+  @Async(AsyncExecutorConfig.REST_SEND_EXECUTOR)
+  @Override
+  public void resend(Transmission transmission) {
+    super.resend(transmission);
+  }
+
   @Override
   TransmissionRecord sendToReceiver(Notification notification, Channel channel) {
 
     RESTfulChannel restfulChannel = (RESTfulChannel) channel;
-    RestTemplate restTemplate = new RestTemplate();
 
     HttpHeaders headers = new HttpHeaders();
     headers.setContentType(notification.getContentType() == null ? MediaType.TEXT_PLAIN
@@ -53,13 +92,14 @@ public class RESTfulSendingService extends AbstractSendingService {
     HttpEntity<String> request = new HttpEntity<>(notification.getContent(), headers);
 
     TransmissionRecord record = new TransmissionRecord();
+    String url = restfulChannel.getUrl();
 
-    logger.debug("sending notification to " + restfulChannel.getUrl() + " by HTTP "
-        + restfulChannel.getHttpMethod() + " method");
+    logger.debug("sending notification to " + url + " by HTTP " + restfulChannel.getHttpMethod()
+        + " method");
 
     try {
       record.setSent(System.currentTimeMillis());
-      ResponseEntity<String> response = restTemplate.exchange(URI.create(restfulChannel.getUrl()),
+      ResponseEntity<String> response = restTemplate.exchange(URI.create(url),
           HttpMethod.resolve(restfulChannel.getHttpMethod().toString()), request, String.class);
 
       logger.debug("got response status code: " + response.getStatusCode() + " with content: "
@@ -67,15 +107,54 @@ public class RESTfulSendingService extends AbstractSendingService {
 
       record.setStatus(TransmissionStatus.SENT);
       record.setResponse(response.getBody());
+      circuitBreakerRegistry.recordSuccess(url);
     } catch (RestClientException e) {
       logger.error(e.getMessage(), e);
       record.setStatus(TransmissionStatus.FAILED);
       record.setResponse(e.getMessage());
+      // a 4xx response proves the endpoint is up, only I/O errors and 5xx responses trip it
+      if (e instanceof HttpClientErrorException) {
+        circuitBreakerRegistry.recordSuccess(url);
+      } else {
+        circuitBreakerRegistry.recordFailure(url);
+      }
     }
 
     return record;
   }
 
+  /**
+   * A delivery to an endpoint whose circuit breaker is open is not attempted, but deferred until
+   * the breaker lets trial requests through again.
+   */
+  @Override
+  Deferral checkReachable(Channel channel) {
+    String url = ((RESTfulChannel) channel).getUrl();
+    if (circuitBreakerRegistry.allowRequest(url)) {
+      return null;
+    }
+    logger.debug("circuit breaker is open, deferring notification to " + url);
+    return new Deferral(Math.max(1, circuitBreakerRegistry.getRetryDelay(url)),
+        "circuit breaker is open for " + url);
+  }
+
+  /**
+   * A RESTful digest is the JSON array of the notifications.
+   */
+  @Override
+  Notification digestOf(List<Notification> notifications) {
+    Notification digest = new Notification();
+    digest.setSlug(DIGEST_SLUG);
+    digest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try {
+      digest.setContent(objectMapper.writeValueAsString(notifications));
+    } catch (JsonProcessingException e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+    return digest;
+  }
+
   @Override
   protected void checkParameters(Notification notification, Channel channel) {
     super.checkParameters(notification, channel);
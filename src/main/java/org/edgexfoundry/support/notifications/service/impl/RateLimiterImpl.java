@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.edgexfoundry.support.notifications.config.RateLimitProperties;
+import org.edgexfoundry.support.notifications.config.RateLimitProperties.Limit;
+import org.edgexfoundry.support.notifications.service.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * One token bucket per lower-cased sender or receiver, refilled continuously at the rate of its
+ * limit up to its burst. Buckets are created on first use; a bucket which has refilled completely
+ * is the same as a new one, so such buckets are evicted periodically to keep the number of
+ * buckets bounded by the keys which were active recently.
+ */
+@Service
+public class RateLimiterImpl implements RateLimiter {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private RateLimitProperties rateLimitProps;
+
+  private final Map<Scope, ConcurrentMap<String, TokenBucket>> buckets = new EnumMap<>(Scope.class);
+
+  public RateLimiterImpl() {
+    for (Scope scope : Scope.values()) {
+      buckets.put(scope, new ConcurrentHashMap<>());
+    }
+  }
+
+  @Override
+  public long tryAcquire(Scope scope, String key) {
+    String normalized = key == null ? "" : key.toLowerCase(Locale.ROOT);
+    ConcurrentMap<String, TokenBucket> scoped = buckets.get(scope);
+    TokenBucket bucket = scoped.get(normalized);
+    if (bucket == null) {
+      Limit limit = rateLimitProps.getLimit(scope, normalized);
+      if (limit.isUnlimited()) {
+        return 0;
+      }
+      bucket = scoped.computeIfAbsent(normalized, k -> new TokenBucket(limit));
+    }
+    long wait = bucket.tryAcquire(System.currentTimeMillis());
+    if (wait > 0) {
+      logger.debug(scope + " " + normalized + " is over its rate limit for " + wait + " ms");
+    }
+    return wait;
+  }
+
+  @Scheduled(fixedDelayString = "${application.ratelimit.evictInterval}")
+  public void evict() {
+    long now = System.currentTimeMillis();
+    buckets.values().forEach(scoped -> scoped.values().removeIf(bucket -> bucket.isFull(now)));
+  }
+
+  private static final class TokenBucket {
+
+    private final double tokensPerMilli;
+    private final int burst;
+    private double tokens;
+    private long refilled;
+
+    TokenBucket(Limit limit) {
+      this.tokensPerMilli = limit.getRate() / 1000;
+      this.burst = Math.max(1, limit.getBurst());
+      this.tokens = burst;
+      this.refilled = System.currentTimeMillis();
+    }
+
+    synchronized long tryAcquire(long now) {
+      refill(now);
+      if (tokens >= 1) {
+        tokens--;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / tokensPerMilli);
+    }
+
+    synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= burst;
+    }
+
+    private void refill(long now) {
+      if (now > refilled) {
+        tokens = Math.min(burst, tokens + (now - refilled) * tokensPerMilli);
+        refilled = now;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.exception.controller.DataValidationException;
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.notifications.config.MailChannelProperties;
+import org.edgexfoundry.support.notifications.dao.ResendQueueDAO;
+import org.edgexfoundry.support.notifications.domain.ResendQueueItem;
+import org.edgexfoundry.support.notifications.service.ResendQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Durable due-time queue of pending resends. Only the transmission id and the due time are kept,
+ * so outstanding resends survive a restart and take no heap until they are due.
+ */
+@Service
+public class ResendQueueImpl implements ResendQueue {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private ResendQueueDAO resendQueueDAO;
+
+  @Autowired
+  private MailChannelProperties mailProperties;
+
+  @Value("${application.resend.queue.lease}")
+  private long lease;
+
+  @PostConstruct
+  public void init() {
+    long longestSend = mailProperties.getSendTimeout() + mailProperties.getBatchWindow();
+    if (lease <= longestSend) {
+      logger.warn("resend queue lease of " + lease + " ms does not outlast a mail send of up to "
+          + longestSend + " ms, a slow resend may be sent twice");
+    }
+  }
+
+  @Override
+  public void schedule(String transmissionId, long nextAttempt) {
+    if (transmissionId == null) {
+      logger.error("ResendQueue received a null transmission id");
+      throw new DataValidationException("transmission id is null");
+    }
+
+    logger.debug("scheduling resend of transmission id=" + transmissionId + " at " + nextAttempt);
+    try {
+      resendQueueDAO.upsertByTransmissionId(transmissionId, nextAttempt);
+    } catch (Exception e) {
+      logger.error("resend of transmission id=" + transmissionId + " cannot be scheduled");
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
+  @Override
+  public void complete(String transmissionId) {
+    if (transmissionId == null) {
+      return;
+    }
+
+    logger.debug("removing pending resend of transmission id=" + transmissionId);
+    try {
+      resendQueueDAO.deleteByTransmissionId(transmissionId);
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+      throw new ServiceException(e);
+    }
+  }
+
+  @Override
+  public List<ResendQueueItem> claim(int limit) {
+    long now = System.currentTimeMillis();
+    return resendQueueDAO.claimDue(now, now + lease, limit);
+  }
+
+}
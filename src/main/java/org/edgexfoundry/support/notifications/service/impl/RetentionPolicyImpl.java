@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.config.RetentionProperties;
+import org.edgexfoundry.support.notifications.service.RetentionPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maps the status of a document to its retention period. Only settled documents expire: processed
+ * and escalated notifications, and sent, acknowledged and escalated transmissions. New
+ * notifications and failed transmissions are still being worked on and are always kept.
+ */
+@Service
+public class RetentionPolicyImpl implements RetentionPolicy {
+
+  @Autowired
+  private RetentionProperties retentionProps;
+
+  @Override
+  public boolean isEnabled() {
+    return retentionProps.isEnabled();
+  }
+
+  @Override
+  public Date getExpiry(NotificationStatus status, long modified) {
+    if (status == NotificationStatus.PROCESSED) {
+      return expiry(retentionProps.getProcessed(), modified);
+    } else if (status == NotificationStatus.ESCALATED) {
+      return expiry(retentionProps.getEscalated(), modified);
+    }
+    return null;
+  }
+
+  @Override
+  public Date getExpiry(TransmissionStatus status, long modified) {
+    if (status == TransmissionStatus.SENT) {
+      return expiry(retentionProps.getSent(), modified);
+    } else if (status == TransmissionStatus.ACKNOWLEDGED) {
+      return expiry(retentionProps.getAcknowledged(), modified);
+    } else if (status == TransmissionStatus.ESCALATED) {
+      return expiry(retentionProps.getEscalated(), modified);
+    }
+    return null;
+  }
+
+  private Date expiry(long retention, long modified) {
+    if (!retentionProps.isEnabled() || retention <= 0) {
+      return null;
+    }
+    return new Date(modified + retention);
+  }
+
+}
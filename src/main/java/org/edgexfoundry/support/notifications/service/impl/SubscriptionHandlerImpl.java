@@ -28,6 +28,7 @@ import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Subscription;
 import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
 import org.edgexfoundry.support.notifications.service.SubscriptionHandler;
+import org.edgexfoundry.support.notifications.service.SubscriptionIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
@@ -44,6 +45,9 @@ public class SubscriptionHandlerImpl implements SubscriptionHandler {
   @Autowired
   private SubscriptionDAO subscriptionDAO;
 
+  @Autowired
+  private SubscriptionIndex subscriptionIndex;
+
   @Override
   public void createSubscription(Subscription subscription) {
     if (subscription == null) {
@@ -59,6 +63,7 @@ public class SubscriptionHandlerImpl implements SubscriptionHandler {
       logger.info(e.getMessage(), e);
       throw new DataValidationException("duplicated subscription slug: " + subscription.getSlug());
     }
+    subscriptionIndex.put(subscription);
 
     logger.debug("new subscription is created: slug=" + subscription.getSlug());
   }
@@ -114,6 +119,7 @@ public class SubscriptionHandlerImpl implements SubscriptionHandler {
       logger.info(e.getMessage(), e);
       throw new ClientException(e.getMessage());
     }
+    subscriptionIndex.put(subscription);
 
     logger.debug("the subscription is updated: slug=" + subscription.getSlug());
   }
@@ -140,6 +146,7 @@ public class SubscriptionHandlerImpl implements SubscriptionHandler {
       logger.error(e.getMessage(), e);
       throw new ServiceException(e);
     }
+    subscriptionIndex.remove(subscription);
 
     logger.debug("the subscription is deleted: slug=" + slug);
   }
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.support.domain.notifications.NotificationCategory;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
+import org.edgexfoundry.support.notifications.service.SubscriptionIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory inverted index from lower-cased category and label to the subscriptions which
+ * subscribe to it. Readers always see a complete snapshot; writers rebuild and swap the snapshot,
+ * which is cheap because subscriptions change rarely compared to how often they are matched.
+ */
+@Service
+public class SubscriptionIndexImpl implements SubscriptionIndex {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private SubscriptionDAO subscriptionDAO;
+
+  private volatile Snapshot snapshot;
+
+  @PostConstruct
+  public void init() {
+    try {
+      rebuild();
+    } catch (Exception e) {
+      logger.error("subscription index cannot be built, subscriptions will be queried from "
+          + "database: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Periodically reload the index so that subscriptions changed by other service instances are
+   * picked up as well.
+   */
+  @Scheduled(fixedDelayString = "${application.subscription.index.refresh}")
+  public void refresh() {
+    try {
+      rebuild();
+    } catch (Exception e) {
+      logger.error("subscription index refresh failed: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  @Override
+  public synchronized void rebuild() {
+    List<Subscription> subscriptions = subscriptionDAO.findAll();
+    snapshot = new Snapshot(subscriptions);
+    logger.debug("subscription index is built with " + subscriptions.size() + " subscription(s)");
+  }
+
+  @Override
+  public synchronized void put(Subscription subscription) {
+    if (snapshot == null || subscription == null || subscription.getId() == null) {
+      return;
+    }
+    Map<String, Subscription> subscriptions = new LinkedHashMap<>(snapshot.subscriptions);
+    subscriptions.put(subscription.getId(), subscription);
+    snapshot = new Snapshot(subscriptions.values());
+  }
+
+  @Override
+  public synchronized void remove(Subscription subscription) {
+    if (snapshot == null || subscription == null || subscription.getId() == null) {
+      return;
+    }
+    Map<String, Subscription> subscriptions = new LinkedHashMap<>(snapshot.subscriptions);
+    subscriptions.remove(subscription.getId());
+    snapshot = new Snapshot(subscriptions.values());
+  }
+
+  @Override
+  public List<Subscription> findInSubscribedCategoriesOrSubscribedLabels(String[] categories,
+      String[] labels) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return new ArrayList<>();
+    }
+
+    Set<String> ids = new LinkedHashSet<>();
+    collect(current.categories, categories, ids);
+    collect(current.labels, labels, ids);
+
+    List<Subscription> result = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      result.add(current.subscriptions.get(id));
+    }
+    return result;
+  }
+
+  private void collect(Map<String, Set<String>> index, String[] keys, Set<String> ids) {
+    if (keys == null) {
+      return;
+    }
+    for (String key : keys) {
+      if (key != null) {
+        ids.addAll(index.getOrDefault(normalize(key), Collections.emptySet()));
+      }
+    }
+  }
+
+  private static String normalize(String key) {
+    return key.toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Snapshot {
+
+    private final Map<String, Subscription> subscriptions = new LinkedHashMap<>();
+    private final Map<String, Set<String>> categories = new HashMap<>();
+    private final Map<String, Set<String>> labels = new HashMap<>();
+
+    Snapshot(Collection<Subscription> all) {
+      for (Subscription subscription : all) {
+        String id = subscription.getId();
+        subscriptions.put(id, subscription);
+        if (subscription.getSubscribedCategories() != null) {
+          for (NotificationCategory category : subscription.getSubscribedCategories()) {
+            if (category != null) {
+              categories.computeIfAbsent(normalize(category.toString()), k -> new HashSet<>())
+                  .add(id);
+            }
+          }
+        }
+        if (subscription.getSubscribedLabels() != null) {
+          for (String label : subscription.getSubscribedLabels()) {
+            if (label != null) {
+              labels.computeIfAbsent(normalize(label), k -> new HashSet<>()).add(id);
+            }
+          }
+        }
+      }
+    }
+  }
+
+}
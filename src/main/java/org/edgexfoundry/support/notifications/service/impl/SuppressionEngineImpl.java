@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.PostConstruct;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.dao.OccurrenceDAO;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.service.SuppressionEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Suppresses notification storms. Notifications of the same sender, category, severity and labels
+ * (and content, if configured) share a fingerprint; a notification is a repeat when the latest
+ * stored one with its fingerprint last occurred within the window, which slides forward with every
+ * repeat, so a storm keeps collapsing into one notification for as long as it lasts. The
+ * occurrences are counted in their own collection rather than on the notification, so that saving
+ * the notification never overwrites the counter. The counters are kept for the retention period
+ * after the window of their last occurrence has closed, then MongoDB expires them.
+ */
+@Service
+public class SuppressionEngineImpl implements SuppressionEngine {
+
+  private static final char SEPARATOR = '\n';
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private OccurrenceDAO occurrenceDAO;
+
+  @Value("${application.suppression.enabled}")
+  private boolean enabled;
+
+  @Value("${application.suppression.window}")
+  private long window;
+
+  @Value("${application.suppression.retention}")
+  private long retention;
+
+  @Value("${application.suppression.content}")
+  private boolean includeContent;
+
+  /**
+   * Occurrences stored before they had an expiry get one counted from now.
+   */
+  @PostConstruct
+  public void init() {
+    try {
+      int undated = occurrenceDAO.expireUndated(expiry(System.currentTimeMillis()));
+      if (undated > 0) {
+        logger.info(undated + " occurrence(s) without an expiry will expire after the retention");
+      }
+    } catch (Exception e) {
+      logger.error("occurrences without an expiry cannot be updated: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public String fingerprint(Notification notification) {
+    if (!enabled) {
+      return null;
+    }
+    StringBuilder key = new StringBuilder();
+    append(key, notification.getSender());
+    append(key, notification.getCategory());
+    append(key, notification.getSeverity());
+    List<String> labels = new ArrayList<>();
+    if (notification.getLabels() != null) {
+      for (String label : notification.getLabels()) {
+        if (label != null) {
+          labels.add(label.toLowerCase(Locale.ROOT));
+        }
+      }
+    }
+    Collections.sort(labels);
+    append(key, labels);
+    if (includeContent) {
+      key.append(notification.getContent());
+    }
+    return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public Occurrence suppress(String fingerprint, int occurrences) {
+    if (!enabled || fingerprint == null) {
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    Occurrence occurrence;
+    try {
+      occurrence = occurrenceDAO.addOccurrences(fingerprint, now - window, occurrences, now,
+          expiry(now));
+    } catch (Exception e) {
+      logger.error("repeats cannot be suppressed, the notification is stored: " + e.getMessage(),
+          e);
+      return null;
+    }
+    if (occurrence != null) {
+      logger.info("suppressed " + occurrences + " repeat(s) of notification slug="
+          + occurrence.getSlug() + ", which has occurred " + occurrence.getCount() + " time(s)");
+    }
+    return occurrence;
+  }
+
+  @Override
+  public void track(Notification notification, String fingerprint, int occurrences) {
+    if (!enabled || fingerprint == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Occurrence occurrence =
+        new Occurrence(notification.getId(), notification.getSlug(), fingerprint, occurrences, now);
+    occurrence.setExpireAt(expiry(now));
+    try {
+      occurrenceDAO.insert(occurrence);
+    } catch (Exception e) {
+      logger.error("repeats of notification slug=" + notification.getSlug()
+          + " cannot be suppressed: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Occurrence findOccurrence(Notification notification) {
+    return occurrenceDAO.findOne(notification.getId());
+  }
+
+  @Override
+  public void untrack(Notification notification) {
+    if (notification.getId() != null) {
+      occurrenceDAO.delete(notification.getId());
+    }
+  }
+
+  private Date expiry(long lastOccurred) {
+    return new Date(lastOccurred + window + retention);
+  }
+
+  private static void append(StringBuilder key, Object value) {
+    key.append(value == null ? "" : value.toString().toLowerCase(Locale.ROOT)).append(SEPARATOR);
+  }
+
+}
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.edgexfoundry.exception.controller.ClientException;
 import org.edgexfoundry.exception.controller.NotFoundException;
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Notification;
@@ -32,6 +33,8 @@ import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.edgexfoundry.support.notifications.service.TransmissionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -109,6 +112,26 @@ public class TransmissionHandlerImpl implements TransmissionHandler {
       return new ArrayList<>();
   }
 
+  @Override
+  public ResultPage<Transmission> findByCreatedDuration(long start, long end, String cursor,
+      int limit) {
+    logger.debug("TransmissionHandler is finding transmissions by created between " + start
+        + " and " + end + " after cursor=" + cursor + IN_LIMIT + limit);
+    if (limit < 1) {
+      throw new ClientException("page limit must be positive: " + limit);
+    }
+    PageCursor after;
+    try {
+      after = PageCursor.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ClientException("invalid page cursor: " + cursor);
+    }
+    List<Transmission> transmissions =
+        transmissionDAO.findByCreatedBetweenAfterCursor(start, end, after, limit + 1);
+    return ResultPage.of(transmissions, limit,
+        transmission -> new PageCursor(transmission.getCreated(), transmission.getId()));
+  }
+
   @Override
   public List<Transmission> findByCreatedAfter(long start, int limit) {
     logger.debug("TransmissionHandler is finding transmissions by created after " + start + IN_LIMIT
@@ -179,6 +202,62 @@ public class TransmissionHandlerImpl implements TransmissionHandler {
       return new ArrayList<>();
   }
 
+  @Override
+  public List<Transmission> findSummariesByCreatedDuration(long start, long end, int limit) {
+    logger.debug("TransmissionHandler is finding transmission summaries by created between "
+        + start + " and " + end + IN_LIMIT + limit);
+    return withNotificationSummaries(
+        transmissionDAO.findSummariesByCreatedBetween(start, end, newestFirst(limit)));
+  }
+
+  @Override
+  public List<Transmission> findSummariesByCreatedAfter(long start, int limit) {
+    logger.debug("TransmissionHandler is finding transmission summaries by created after "
+        + start + IN_LIMIT + limit);
+    return withNotificationSummaries(
+        transmissionDAO.findSummariesByCreatedAfter(start, newestFirst(limit)));
+  }
+
+  @Override
+  public List<Transmission> findSummariesByCreatedBefore(long end, int limit) {
+    logger.debug("TransmissionHandler is finding transmission summaries by created before " + end
+        + IN_LIMIT + limit);
+    return withNotificationSummaries(
+        transmissionDAO.findSummariesByCreatedBefore(end, newestFirst(limit)));
+  }
+
+  @Override
+  public List<Transmission> findSummariesByNotificationSlug(String slug, int limit) {
+    logger.debug("TransmissionHandler is finding transmission summaries by notification slug="
+        + slug + IN_LIMIT + limit);
+    Notification notification = notificationDAO.findBySlugIgnoreCase(slug);
+    if (notification == null) {
+      throw new NotFoundException(Notification.class.toString(), slug);
+    }
+    Notification summary = new Notification();
+    summary.setId(notification.getId());
+    summary.setSlug(notification.getSlug());
+    List<Transmission> transmissions =
+        transmissionDAO.findSummariesByNotificationId(notification.getId(), newestFirst(limit));
+    transmissions.forEach(transmission -> transmission.setNotification(summary));
+    return transmissions;
+  }
+
+  @Override
+  public List<Transmission> findEscalatedTransmissionSummaries(int limit) {
+    logger.debug("TransmissionHandler is finding escalated transmission summaries" + IN_LIMIT
+        + limit);
+    return withNotificationSummaries(
+        transmissionDAO.findSummariesByStatus(TransmissionStatus.ESCALATED, newestFirst(limit)));
+  }
+
+  @Override
+  public List<Transmission> findFailedTransmissionSummaries(int limit) {
+    logger.debug("TransmissionHandler is finding failed transmission summaries" + IN_LIMIT + limit);
+    return withNotificationSummaries(
+        transmissionDAO.findSummariesByStatus(TransmissionStatus.FAILED, newestFirst(limit)));
+  }
+
   @Override
   public void deleteOldSentTransmissions(long age) {
     TransmissionStatus status = TransmissionStatus.SENT;
@@ -232,4 +311,13 @@ public class TransmissionHandlerImpl implements TransmissionHandler {
     logger.debug("Deletion operation by modified before " + endDate + " is completed");
   }
 
+  private List<Transmission> withNotificationSummaries(List<Transmission> transmissions) {
+    transmissionDAO.attachNotificationSummaries(transmissions);
+    return transmissions;
+  }
+
+  private static PageRequest newestFirst(int limit) {
+    return new PageRequest(0, limit, new Sort(Sort.Direction.DESC, RECORD_CREATION_FIELD));
+  }
+
 }
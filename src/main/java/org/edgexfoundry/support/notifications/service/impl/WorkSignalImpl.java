@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service.impl;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.edgexfoundry.support.notifications.service.WorkSignal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lock-free work signal. Every work counts the signals it has received; a run takes the count it
+ * started from as its token, so that the signals which arrived during the run are told apart. A
+ * signal schedules one wake-up on the task scheduler unless one is already pending, so a burst of
+ * signals costs a counter increment each and wakes the listener once.
+ */
+@Service
+public class WorkSignalImpl implements WorkSignal {
+
+  private final org.edgexfoundry.support.logging.client.EdgeXLogger logger =
+      org.edgexfoundry.support.logging.client.EdgeXLoggerFactory.getEdgeXLogger(this.getClass());
+
+  @Autowired
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Value("${application.scheduler.normal.debounce}")
+  private long distributionDebounce;
+
+  @Value("${application.scheduler.normal.resend.debounce}")
+  private long resendDebounce;
+
+  private final Map<Work, State> states = new EnumMap<>(Work.class);
+
+  public WorkSignalImpl() {
+    for (Work work : Work.values()) {
+      states.put(work, new State());
+    }
+  }
+
+  @Override
+  public void register(Work work, Runnable listener) {
+    states.get(work).listener = listener;
+  }
+
+  @Override
+  public void signal(Work work) {
+    states.get(work).signalled.incrementAndGet();
+    wake(work);
+  }
+
+  @Override
+  public long begin(Work work) {
+    State state = states.get(work);
+    if (!state.running.compareAndSet(false, true)) {
+      return NONE;
+    }
+    return state.signalled.get();
+  }
+
+  @Override
+  public void finish(Work work, long token) {
+    State state = states.get(work);
+    state.running.set(false);
+    // a failed run is retried on the next scheduled tick rather than right away
+    if (token != NONE && state.signalled.get() > token) {
+      wake(work);
+    }
+  }
+
+  private void wake(Work work) {
+    State state = states.get(work);
+    Runnable listener = state.listener;
+    if (listener == null || !state.scheduled.compareAndSet(false, true)) {
+      return;
+    }
+    long debounce = work == Work.NORMAL_RESEND ? resendDebounce : distributionDebounce;
+    try {
+      scheduler.schedule(() -> {
+        state.scheduled.set(false);
+        listener.run();
+      }, new Date(System.currentTimeMillis() + debounce));
+    } catch (Exception e) {
+      state.scheduled.set(false);
+      logger.error("cannot wake the executor of " + work + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static final class State {
+
+    // counted from 1, so that the token of a run is never NONE
+    private final AtomicLong signalled = new AtomicLong(1L);
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile Runnable listener;
+
+  }
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.NotFoundException;
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.notifications.controller.impl.CircuitBreakerControllerImpl;
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistry;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+@Category(RequiresNone.class)
+public class CircuitBreakerControllerTest {
+
+  private static final String TEST_URL = "http://localhost:9999";
+
+  @InjectMocks
+  private CircuitBreakerControllerImpl controller;
+
+  @Mock
+  private CircuitBreakerRegistry registry;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void testListCircuitBreakers() {
+    List<CircuitBreakerStatus> statuses = new ArrayList<>();
+    statuses.add(new CircuitBreakerStatus());
+    Mockito.when(registry.getStatuses()).thenReturn(statuses);
+    assertEquals("Circuit breaker list does not match expected", 1,
+        controller.listCircuitBreakers().size());
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testListCircuitBreakersException() {
+    Mockito.when(registry.getStatuses()).thenThrow(new RuntimeException("test"));
+    controller.listCircuitBreakers();
+  }
+
+  @Test
+  public void testResetCircuitBreaker() {
+    Mockito.when(registry.reset(TEST_URL)).thenReturn(true);
+    assertTrue("Circuit breaker was not reset", controller.resetCircuitBreaker(TEST_URL));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void testResetCircuitBreakerNotFound() {
+    controller.resetCircuitBreaker(TEST_URL);
+  }
+
+}
@@ -22,7 +22,9 @@ import org.springframework.http.HttpStatus;
 
 import static org.junit.Assert.assertEquals;
 
+import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.notifications.controller.impl.CleanupControllerImpl;
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
 import org.edgexfoundry.support.notifications.service.CleanupService;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
@@ -30,6 +32,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 
@@ -63,4 +66,19 @@ public class CleanupControllerTest {
         HttpStatus.ACCEPTED, resp.getStatusCode());
   }
 
+  @Test
+  public void testGetStatus() {
+    CleanupStatus status = new CleanupStatus();
+    status.setState(CleanupStatus.State.RUNNING);
+    Mockito.when(service.getStatus()).thenReturn(status);
+    assertEquals("Cleanup status does not match expected", CleanupStatus.State.RUNNING,
+        controller.getStatus().getState());
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testGetStatusException() {
+    Mockito.when(service.getStatus()).thenThrow(new RuntimeException("test"));
+    controller.getStatus();
+  }
+
 }
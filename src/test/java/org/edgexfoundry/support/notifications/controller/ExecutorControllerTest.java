@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.edgexfoundry.support.notifications.config.BoundedTaskExecutor;
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.Pool;
+import org.edgexfoundry.support.notifications.config.ExecutorProperties.RejectionPolicy;
+import org.edgexfoundry.support.notifications.controller.impl.ExecutorControllerImpl;
+import org.edgexfoundry.support.notifications.domain.ExecutorStatus;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class ExecutorControllerTest {
+
+  private static final String TEST_NAME = "test";
+
+  private ExecutorControllerImpl controller;
+
+  private BoundedTaskExecutor executor;
+
+  @Before
+  public void setup() {
+    executor = new BoundedTaskExecutor(TEST_NAME, new Pool(1, 1, 0, RejectionPolicy.ABORT));
+    executor.initialize();
+    List<BoundedTaskExecutor> executors = new ArrayList<>();
+    executors.add(executor);
+    controller = new ExecutorControllerImpl();
+    ReflectionTestUtils.setField(controller, "executors", executors);
+  }
+
+  @After
+  public void cleanup() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testListExecutors() {
+    List<ExecutorStatus> result = controller.listExecutors();
+    assertEquals("Executor list does not contain expected executor", 1, result.size());
+    ExecutorStatus status = result.get(0);
+    assertEquals("Executor name does not match expected", TEST_NAME, status.getName());
+    assertEquals("Executor queue capacity does not match expected", 0, status.getQueueCapacity());
+    assertEquals("Executor rejection policy does not match expected", "ABORT",
+        status.getRejectionPolicy());
+  }
+
+  @Test
+  public void testRejectedTaskIsCounted() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    started.await();
+    try {
+      executor.execute(() -> {
+      });
+    } catch (TaskRejectedException e) {
+      // expected, the only thread is busy and the queue has no capacity
+    } finally {
+      release.countDown();
+    }
+    assertEquals("Rejected task count does not match expected", 1,
+        controller.listExecutors().get(0).getRejectedCount());
+  }
+
+  @Test
+  public void testStatusWithoutRejectionPolicy() {
+    BoundedTaskExecutor unconfigured =
+        new BoundedTaskExecutor(TEST_NAME, new Pool(1, 1, 0, null));
+    unconfigured.initialize();
+    try {
+      assertEquals("Executor rejection policy does not match expected", "CALLER_RUNS",
+          unconfigured.getStatus().getRejectionPolicy());
+    } finally {
+      unconfigured.shutdown();
+    }
+  }
+
+}
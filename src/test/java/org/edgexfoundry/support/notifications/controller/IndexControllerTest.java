@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.notifications.controller.impl.IndexControllerImpl;
+import org.edgexfoundry.support.notifications.domain.IndexStatus;
+import org.edgexfoundry.support.notifications.service.IndexManager;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+@Category(RequiresNone.class)
+public class IndexControllerTest {
+
+  @InjectMocks
+  private IndexControllerImpl controller;
+
+  @Mock
+  private IndexManager indexManager;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void testListIndexes() {
+    List<IndexStatus> statuses = new ArrayList<>();
+    statuses.add(new IndexStatus("notification", "slug_1", "slug:1", IndexStatus.State.MISSING));
+    Mockito.when(indexManager.getIndexStatuses()).thenReturn(statuses);
+    assertEquals("Index list does not match expected", statuses, controller.listIndexes());
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testListIndexesException() {
+    Mockito.when(indexManager.getIndexStatuses()).thenThrow(new RuntimeException("test"));
+    controller.listIndexes();
+  }
+
+  @Test
+  public void testProvisionIndexes() {
+    assertTrue("Provisioning did not return expected result", controller.provisionIndexes());
+    Mockito.verify(indexManager).provision();
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testProvisionIndexesException() {
+    Mockito.doThrow(new RuntimeException("test")).when(indexManager).provision();
+    controller.provisionIndexes();
+  }
+
+}
@@ -33,6 +33,10 @@ import org.edgexfoundry.support.domain.notifications.Notification;
 import org.edgexfoundry.support.notifications.test.data.NotificationData;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.controller.impl.NotificationControllerImpl;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult.Status;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.edgexfoundry.support.notifications.service.NotificationHandler;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
@@ -43,6 +47,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 @Category(RequiresNone.class)
 public class NotificationsControllerTest {
@@ -68,10 +73,39 @@ public class NotificationsControllerTest {
 
   @Test
   public void testReceiveNotification() {
+    BatchItemResult result = new BatchItemResult(0, note.getSlug());
+    result.accept();
+    Mockito.when(handler.receiveNotification(note)).thenReturn(result);
     assertEquals("Send of new notification did not return healthy status", HttpStatus.ACCEPTED,
         controller.receiveNotification(note).getStatusCode());
   }
 
+  @Test
+  public void testReceiveNotificationSuppressed() {
+    BatchItemResult result = new BatchItemResult(0, note.getSlug());
+    result.reject(Status.SUPPRESSED, "test");
+    result.setRepeatOf("original");
+    Mockito.when(handler.receiveNotification(note)).thenReturn(result);
+    ResponseEntity<String> response = controller.receiveNotification(note);
+    assertEquals("Suppressed repeat was reported as received", HttpStatus.OK,
+        response.getStatusCode());
+    assertEquals("Suppressed repeat did not return the slug of the stored notification",
+        "original", response.getBody());
+  }
+
+  @Test
+  public void testReceiveNotificationRateLimited() {
+    BatchItemResult result = new BatchItemResult(0, note.getSlug());
+    result.reject(Status.RATE_LIMITED, "test");
+    result.setRetryAfter(1500);
+    Mockito.when(handler.receiveNotification(note)).thenReturn(result);
+    ResponseEntity<String> response = controller.receiveNotification(note);
+    assertEquals("Sender over its rate limit did not get 429", HttpStatus.TOO_MANY_REQUESTS,
+        response.getStatusCode());
+    assertEquals("Retry-After is not rounded up to seconds", "2",
+        response.getHeaders().getFirst("Retry-After"));
+  }
+
   @Test(expected = ServiceException.class)
   public void testReceiveNotificationException() {
     controller = new NotificationControllerImpl();
@@ -90,6 +124,51 @@ public class NotificationsControllerTest {
     controller.receiveNotification(note);
   }
 
+  @Test
+  public void testReceiveNotifications() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(config.getBatchLimit()).thenReturn(MAX_LIMIT);
+    assertEquals("Send of notification batch did not return healthy status", HttpStatus.ACCEPTED,
+        controller.receiveNotifications(notes).getStatusCode());
+  }
+
+  @Test
+  public void testReceiveNotificationsRateLimited() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    BatchItemResult result = new BatchItemResult(0, note.getSlug());
+    result.reject(Status.RATE_LIMITED, "test");
+    List<BatchItemResult> results = new ArrayList<>();
+    results.add(result);
+    Mockito.when(config.getBatchLimit()).thenReturn(MAX_LIMIT);
+    Mockito.when(handler.receiveNotifications(notes)).thenReturn(results);
+    assertEquals("Rate limited notification batch did not get 429", HttpStatus.TOO_MANY_REQUESTS,
+        controller.receiveNotifications(notes).getStatusCode());
+  }
+
+  @Test(expected = ClientException.class)
+  public void testReceiveNotificationsEmpty() {
+    controller.receiveNotifications(new ArrayList<>());
+  }
+
+  @Test(expected = LimitExceededException.class)
+  public void testReceiveNotificationsLimitExceededException() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(config.getBatchLimit()).thenReturn(0);
+    controller.receiveNotifications(notes);
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testReceiveNotificationsException() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(config.getBatchLimit()).thenReturn(MAX_LIMIT);
+    Mockito.when(handler.receiveNotifications(notes)).thenThrow(new RuntimeException("test"));
+    controller.receiveNotifications(notes);
+  }
+
   @Test
   public void testFindBySlug() {
     Mockito.when(handler.findBySlug(NotificationData.TEST_SLUG)).thenReturn(note);
@@ -115,6 +194,21 @@ public class NotificationsControllerTest {
     controller.findBySlug(NotificationData.TEST_SLUG);
   }
 
+  @Test
+  public void testFindOccurrence() {
+    Occurrence occurrence = new Occurrence("123", NotificationData.TEST_SLUG, null, 1, 0);
+    Mockito.when(handler.findOccurrence(NotificationData.TEST_SLUG)).thenReturn(occurrence);
+    assertEquals("Find occurrence did not return expected occurrence", occurrence,
+        controller.findOccurrence(NotificationData.TEST_SLUG));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void testFindOccurrenceNotFound() {
+    Mockito.when(handler.findOccurrence("foo"))
+        .thenThrow(new NotFoundException(Notification.class.toString(), "foo"));
+    controller.findOccurrence("foo");
+  }
+
   @Test
   public void testFindBySender() {
     List<Notification> notes = new ArrayList<>();
@@ -179,6 +273,41 @@ public class NotificationsControllerTest {
     controller.findByCreatedDuration(0, Long.MAX_VALUE, MAX_LIMIT);
   }
 
+  @Test
+  public void testFindPageWithoutRange() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(handler.findByCreatedDuration(0, Long.MAX_VALUE, null, MAX_LIMIT))
+        .thenReturn(new ResultPage<>(notes, "next"));
+    Mockito.when(config.getReadLimit()).thenReturn(Integer.MAX_VALUE);
+    ResultPage<Notification> page = controller.findPage(MAX_LIMIT, null, null, null);
+    assertEquals("Find page did not return expected notifications", 1, page.getItems().size());
+    assertEquals("Find page did not return the next cursor", "next", page.getNext());
+  }
+
+  @Test(expected = LimitExceededException.class)
+  public void testFindPageLimitExceededException() {
+    Mockito.when(config.getReadLimit()).thenReturn(0);
+    controller.findPage(MAX_LIMIT, null, null, null);
+  }
+
+  @Test
+  public void testFindSummariesByCreatedDuration() {
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(handler.findSummariesByCreatedDuration(0, Long.MAX_VALUE, MAX_LIMIT))
+        .thenReturn(notes);
+    Mockito.when(config.getReadLimit()).thenReturn(Integer.MAX_VALUE);
+    assertEquals("Find by method did not return expected notification summaries", 1,
+        controller.findSummariesByCreatedDuration(0, Long.MAX_VALUE, MAX_LIMIT).size());
+  }
+
+  @Test(expected = LimitExceededException.class)
+  public void testFindSummariesByCreatedDurationLimitExceededException() {
+    Mockito.when(config.getReadLimit()).thenReturn(0);
+    controller.findSummariesByCreatedDuration(0, Long.MAX_VALUE, MAX_LIMIT);
+  }
+
   @Test
   public void testFindByCreatedAfter() {
     List<Notification> notes = new ArrayList<>();
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationCategory;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.notifications.test.data.NotificationData;
+import org.edgexfoundry.support.notifications.test.data.SubscriptionData;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+@Category(RequiresNone.class)
+public class NormalizedFieldsTest {
+
+  @Test
+  public void testPutNotification() {
+    Notification notification = NotificationData.newTestInstance();
+    notification.setSlug("Slug-A");
+    notification.setSender("Sender");
+    notification.setLabels(new String[] {"Label1", null, "LABEL2"});
+    DBObject dbo = new BasicDBObject();
+    NormalizedFields.put(notification, dbo);
+    assertEquals("Slug was not normalized", "slug-a", dbo.get(NormalizedFields.SLUG));
+    assertEquals("Sender was not normalized", "sender", dbo.get(NormalizedFields.SENDER));
+    assertEquals("Labels were not normalized", Arrays.asList("label1", "label2"),
+        dbo.get(NormalizedFields.LABELS));
+  }
+
+  @Test
+  public void testPutSubscription() {
+    Subscription subscription = SubscriptionData.newTestInstance();
+    subscription.setReceiver("Receiver");
+    subscription.setSubscribedCategories(
+        new NotificationCategory[] {NotificationCategory.HW_HEALTH});
+    DBObject dbo = new BasicDBObject();
+    NormalizedFields.put(subscription, dbo);
+    assertEquals("Receiver was not normalized", "receiver", dbo.get(NormalizedFields.RECEIVER));
+    assertEquals("Categories were not normalized", Arrays.asList("hw_health"),
+        dbo.get(NormalizedFields.SUBSCRIBED_CATEGORIES));
+  }
+
+  @Test
+  public void testLikeRegex() {
+    Pattern pattern = Pattern.compile(NormalizedFields.likeRegex("dev*ce.1"));
+    assertTrue("Like pattern did not match a partial value",
+        pattern.matcher("my-device.1-x").find());
+    assertFalse("Like pattern did not quote a regular expression character",
+        pattern.matcher("device01").find());
+  }
+
+  @Test
+  public void testCriteriaOnNormalizedField() {
+    DBObject criteria = NormalizedFields.is("slug", NormalizedFields.SLUG, "Slug-A", true)
+        .getCriteriaObject();
+    assertEquals("Lookup did not match the normalized field exactly", "slug-a",
+        criteria.get(NormalizedFields.SLUG));
+  }
+
+  @Test
+  public void testCriteriaBeforeMigration() {
+    DBObject criteria =
+        NormalizedFields.is("slug", NormalizedFields.SLUG, "Slug-A", false).getCriteriaObject();
+    assertFalse("Lookup used the normalized field before the migration",
+        criteria.containsField(NormalizedFields.SLUG));
+    assertTrue("Lookup did not fall back to the original field", criteria.containsField("slug"));
+  }
+
+}
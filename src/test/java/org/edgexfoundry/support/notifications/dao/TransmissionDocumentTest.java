@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.test.data.NotificationData;
+import org.edgexfoundry.support.notifications.test.data.TransmissionData;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+/**
+ * The stored transmission holds a reference to its notification, not a copy of it, so a
+ * notification fanned out to many receivers is stored once.
+ */
+@Category(RequiresNone.class)
+public class TransmissionDocumentTest {
+
+  private static final String TEST_ID = "57e2a4fd3ab2d5c9b5c4e2a1";
+  private static final String NOTIFICATION_FIELD = "notification";
+
+  private MappingMongoConverter converter;
+
+  @Before
+  public void setup() {
+    DbRefResolver resolver = Mockito.mock(DbRefResolver.class);
+    Mockito.when(resolver.createDbRef(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenAnswer(invocation -> new DBRef(
+            ((MongoPersistentEntity<?>) invocation.getArguments()[1]).getCollection(),
+            invocation.getArguments()[2]));
+    converter = new MappingMongoConverter(resolver, new MongoMappingContext());
+  }
+
+  @Test
+  public void testNotificationStoredAsReference() {
+    Transmission transmission = TransmissionData.newTestInstance();
+    transmission.getNotification().setId(TEST_ID);
+    DBObject dbo = new BasicDBObject();
+    converter.write(transmission, dbo);
+
+    Object stored = dbo.get(NOTIFICATION_FIELD);
+    assertTrue("Notification was not stored as a reference", stored instanceof DBRef);
+    assertEquals("Reference does not point to the notification", TEST_ID,
+        ((DBRef) stored).getId().toString());
+    assertEquals("Reference does not point to the notification collection",
+        converter.getMappingContext().getPersistentEntity(Notification.class).getCollection(),
+        ((DBRef) stored).getCollectionName());
+    assertFalse("Notification content was copied into the transmission",
+        dbo.toString().contains(NotificationData.TEST_CONTENT));
+  }
+
+}
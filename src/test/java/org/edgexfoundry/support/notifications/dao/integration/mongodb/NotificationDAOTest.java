@@ -21,10 +21,13 @@ package org.edgexfoundry.support.notifications.dao.integration.mongodb;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.edgexfoundry.EdgeXSupportNotificationsApplication;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
 import org.edgexfoundry.support.notifications.test.data.NotificationData;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.test.category.RequiresMongoDB;
@@ -140,4 +143,75 @@ public class NotificationDAOTest {
     NotificationData.checkTestData(notes.get(0), noteId);
   }
 
+  @Test
+  public void testPurgeByIdChunks() {
+    List<String> ids = new ArrayList<>();
+    ids.add(noteId);
+    for (int i = 0; i < 2; i++) {
+      Notification note = NotificationData.newTestInstance();
+      note.setSlug(NotificationData.TEST_SLUG + i);
+      dao.save(note);
+      ids.add(note.getId());
+    }
+    Collections.sort(ids);
+
+    List<String> first = dao.findIdsByStatusAndModifiedBeforeAfterId(null, Long.MAX_VALUE, null, 2);
+    assertEquals("First chunk does not hold the lowest ids", ids.subList(0, 2), first);
+    List<String> next =
+        dao.findIdsByStatusAndModifiedBeforeAfterId(null, Long.MAX_VALUE, first.get(1), 2);
+    assertEquals("Next chunk does not resume after the first", ids.subList(2, 3), next);
+    assertEquals("Chunk deleted unexpected number of notifications", 2,
+        dao.deleteByStatusAndModifiedBeforeAndIdBetween(null, Long.MAX_VALUE, first.get(0),
+            first.get(1)));
+    assertEquals("Notification outside the chunk was deleted", 1, dao.count());
+    dao.delete(next.get(0));
+  }
+
+  @Test
+  public void testfindByCreatedBetweenAfterCursorBreaksTiesById() {
+    List<String> ids = new ArrayList<>();
+    ids.add(noteId);
+    for (int i = 0; i < 2; i++) {
+      Notification note = NotificationData.newTestInstance();
+      note.setSlug(NotificationData.TEST_SLUG + i);
+      dao.save(note);
+      ids.add(note.getId());
+    }
+    Collections.sort(ids, Collections.reverseOrder());
+
+    List<Notification> first = dao.findByCreatedBetweenAfterCursor(0, Long.MAX_VALUE, null, 2);
+    assertEquals("First page returned unexpected number of notifications", 2, first.size());
+    Notification last = first.get(1);
+    List<Notification> next = dao.findByCreatedBetweenAfterCursor(0, Long.MAX_VALUE,
+        new PageCursor(last.getCreated(), last.getId()), 2);
+    assertEquals("Next page skipped notifications sharing the created time", 1, next.size());
+    assertEquals("Next page does not resume after the cursor", ids.get(2), next.get(0).getId());
+    dao.delete(ids.get(0));
+    dao.delete(ids.get(1));
+    dao.delete(ids.get(2));
+  }
+
+  @Test
+  public void testfindBySeverityAndStatusAfterId() {
+    List<String> ids = new ArrayList<>();
+    ids.add(noteId);
+    for (int i = 0; i < 2; i++) {
+      Notification note = NotificationData.newTestInstance();
+      note.setSlug(NotificationData.TEST_SLUG + i);
+      dao.save(note);
+      ids.add(note.getId());
+    }
+    Collections.sort(ids);
+
+    List<Notification> first = dao.findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, null, 2);
+    assertEquals("First page returned unexpected number of notifications", 2, first.size());
+    List<Notification> next = dao.findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, first.get(1).getId(), 2);
+    assertEquals("Next page returned unexpected number of notifications", 1, next.size());
+    assertEquals("Next page does not resume after the id", ids.get(2), next.get(0).getId());
+    dao.delete(ids.get(1));
+    dao.delete(ids.get(2));
+  }
+
 }
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.notifications.config.LatencyProperties.Target;
+import org.edgexfoundry.support.notifications.service.impl.AdaptiveTrigger;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(RequiresNone.class)
+public class AdaptiveTriggerTest {
+
+  private static final long TARGET = 10000;
+  private static final long MIN_INTERVAL = 1000;
+
+  private AdaptiveTrigger trigger;
+
+  @Before
+  public void setup() {
+    trigger = new AdaptiveTrigger(new Target(TARGET, MIN_INTERVAL, 3));
+  }
+
+  @Test
+  public void testStartsAtMinInterval() {
+    assertEquals("First run should come after the min interval", MIN_INTERVAL,
+        trigger.getInterval());
+  }
+
+  @Test
+  public void testBacksOffUpToTarget() {
+    trigger.completed(false);
+    assertEquals("Idle run did not back off", 3000, trigger.getInterval());
+    trigger.completed(false);
+    assertEquals("Idle run did not back off", 9000, trigger.getInterval());
+    trigger.completed(false);
+    assertEquals("Interval exceeded the latency target", TARGET, trigger.getInterval());
+  }
+
+  @Test
+  public void testBacklogResetsInterval() {
+    trigger.completed(false);
+    trigger.completed(false);
+    trigger.completed(true);
+    assertEquals("Run with work did not reset the interval", MIN_INTERVAL, trigger.getInterval());
+  }
+
+  @Test
+  public void testMinIntervalAboveTarget() {
+    trigger = new AdaptiveTrigger(new Target(MIN_INTERVAL, TARGET, 2));
+    trigger.completed(false);
+    assertEquals("Interval exceeded the latency target", MIN_INTERVAL, trigger.getInterval());
+  }
+
+  @Test
+  public void testNextExecutionAfterLastCompletion() {
+    trigger.completed(false);
+    assertEquals("Next run should follow the last completion by the interval",
+        new Date(103000), trigger.nextExecutionTime(100000));
+  }
+
+}
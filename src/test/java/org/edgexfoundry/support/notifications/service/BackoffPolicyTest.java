@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.edgexfoundry.support.domain.notifications.ChannelType;
+import org.edgexfoundry.support.notifications.config.BackoffProperties;
+import org.edgexfoundry.support.notifications.config.BackoffProperties.Policy;
+import org.edgexfoundry.support.notifications.config.BackoffProperties.Strategy;
+import org.edgexfoundry.support.notifications.service.impl.BackoffPolicyImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+@Category(RequiresNone.class)
+public class BackoffPolicyTest {
+
+  private static final long BASE = 1000;
+  private static final long CAP = 10000;
+
+  @InjectMocks
+  private BackoffPolicyImpl backoffPolicy;
+
+  @Spy
+  private BackoffProperties backoffProperties = new BackoffProperties();
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void testFixed() {
+    backoffProperties.setRest(new Policy(Strategy.FIXED, BASE, CAP, 2));
+    assertEquals("Fixed delay does not match base delay", BASE,
+        backoffPolicy.nextDelay(ChannelType.REST, 0));
+    assertEquals("Fixed delay does not match base delay", BASE,
+        backoffPolicy.nextDelay(ChannelType.REST, 5));
+  }
+
+  @Test
+  public void testExponentialIsCapped() {
+    backoffProperties.setEmail(new Policy(Strategy.EXPONENTIAL, BASE, CAP, 2));
+    assertEquals("Exponential delay of first resend does not match", BASE,
+        backoffPolicy.nextDelay(ChannelType.EMAIL, 0));
+    assertEquals("Exponential delay of third resend does not match", 4 * BASE,
+        backoffPolicy.nextDelay(ChannelType.EMAIL, 2));
+    assertEquals("Exponential delay is not capped", CAP,
+        backoffPolicy.nextDelay(ChannelType.EMAIL, 100));
+  }
+
+  @Test
+  public void testDecorrelatedJitterStaysInBounds() {
+    backoffProperties.setRest(new Policy(Strategy.DECORRELATED_JITTER, BASE, CAP, 3));
+    for (int i = 0; i < 100; i++) {
+      long first = backoffPolicy.nextDelay(ChannelType.REST, 0);
+      assertTrue("Jittered delay is out of bounds: " + first, first >= BASE && first <= 3 * BASE);
+      long late = backoffPolicy.nextDelay(ChannelType.REST, 10);
+      assertTrue("Jittered delay is out of bounds: " + late, late >= BASE && late <= CAP);
+    }
+  }
+
+  @Test
+  public void testPolicyPerChannelType() {
+    backoffProperties.setRest(new Policy(Strategy.FIXED, BASE, CAP, 1));
+    backoffProperties.setEmail(new Policy(Strategy.FIXED, CAP, CAP, 1));
+    assertEquals("REST channel did not use its own policy", BASE,
+        backoffPolicy.nextDelay(ChannelType.REST, 1));
+    assertEquals("EMAIL channel did not use its own policy", CAP,
+        backoffPolicy.nextDelay(ChannelType.EMAIL, 1));
+  }
+
+}
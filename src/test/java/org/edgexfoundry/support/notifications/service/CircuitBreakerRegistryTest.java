@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.edgexfoundry.support.notifications.config.CircuitBreakerProperties;
+import org.edgexfoundry.support.notifications.domain.CircuitBreakerStatus.State;
+import org.edgexfoundry.support.notifications.service.impl.CircuitBreakerRegistryImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+@Category(RequiresNone.class)
+public class CircuitBreakerRegistryTest {
+
+  private static final String TEST_URL = "http://localhost:9999";
+  private static final int THRESHOLD = 2;
+
+  @InjectMocks
+  private CircuitBreakerRegistryImpl registry;
+
+  @Spy
+  private CircuitBreakerProperties properties = new CircuitBreakerProperties();
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    properties.setFailureThreshold(THRESHOLD);
+    properties.setOpenDuration(60000);
+  }
+
+  @Test
+  public void testOpensAfterThreshold() {
+    assertTrue("Unknown endpoint should be allowed", registry.allowRequest(TEST_URL));
+    registry.recordFailure(TEST_URL);
+    assertTrue("Circuit should stay closed below threshold", registry.allowRequest(TEST_URL));
+    registry.recordFailure(TEST_URL);
+    assertFalse("Circuit should be open at threshold", registry.allowRequest(TEST_URL));
+    assertEquals("Circuit state does not match expected", State.OPEN,
+        registry.getStatuses().get(0).getState());
+    assertEquals("Rejected count does not match expected", 1,
+        registry.getStatuses().get(0).getRejectedCount());
+  }
+
+  @Test
+  public void testRetryDelayWhileOpen() {
+    assertEquals("Unknown endpoint should not be delayed", 0, registry.getRetryDelay(TEST_URL));
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    long delay = registry.getRetryDelay(TEST_URL);
+    assertTrue("Open circuit should delay until the end of its open duration",
+        delay > 0 && delay <= 60000);
+  }
+
+  @Test
+  public void testEvictIdleClosedBreakers() {
+    properties.setEvictInterval(0);
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure("http://localhost:9998");
+    registry.recordFailure("http://localhost:9998");
+    registry.evict();
+    assertEquals("Only the open circuit breaker should be kept", 1,
+        registry.getStatuses().size());
+    assertEquals("Open circuit breaker was evicted", State.OPEN,
+        registry.getStatuses().get(0).getState());
+  }
+
+  @Test
+  public void testSuccessResetsFailures() {
+    registry.recordFailure(TEST_URL);
+    registry.recordSuccess(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    assertTrue("Circuit should count consecutive failures only", registry.allowRequest(TEST_URL));
+  }
+
+  @Test
+  public void testHalfOpenTrial() {
+    properties.setOpenDuration(0);
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    assertTrue("Circuit should let a trial through", registry.allowRequest(TEST_URL));
+    assertEquals("Circuit state does not match expected", State.HALF_OPEN,
+        registry.getStatuses().get(0).getState());
+    registry.recordSuccess(TEST_URL);
+    assertEquals("Circuit should be closed by a successful trial", State.CLOSED,
+        registry.getStatuses().get(0).getState());
+  }
+
+  @Test
+  public void testHalfOpenTrialFailureReopens() {
+    properties.setOpenDuration(0);
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    registry.allowRequest(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    assertEquals("Circuit should be reopened by a failed trial", State.OPEN,
+        registry.getStatuses().get(0).getState());
+  }
+
+  @Test
+  public void testDisabled() {
+    properties.setEnabled(false);
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    assertTrue("Disabled circuit breaker should allow requests", registry.allowRequest(TEST_URL));
+  }
+
+  @Test
+  public void testReset() {
+    registry.recordFailure(TEST_URL);
+    registry.recordFailure(TEST_URL);
+    assertTrue("Existing circuit breaker was not reset", registry.reset(TEST_URL));
+    assertTrue("Reset circuit should allow requests", registry.allowRequest(TEST_URL));
+    assertFalse("Unknown circuit breaker should not be reset", registry.reset("foo"));
+  }
+
+}
@@ -18,8 +18,17 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.CleanupStatus;
 import org.edgexfoundry.support.notifications.service.impl.CleanupServiceImpl;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
@@ -27,11 +36,15 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @Category(RequiresNone.class)
 public class CleanupServiceTest {
 
+  private static final int TEST_BATCH_SIZE = 2;
+
   @InjectMocks
   private CleanupServiceImpl service;
 
@@ -44,6 +57,8 @@ public class CleanupServiceTest {
   @Before
   public void setup() {
     MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(service, "batchSize", TEST_BATCH_SIZE);
+    ReflectionTestUtils.setField(service, "throttle", 0L);
   }
 
   @Test
@@ -56,4 +71,62 @@ public class CleanupServiceTest {
     service.cleanupOld(System.currentTimeMillis());
   }
 
+  @Test
+  public void testCleanupOldInChunks() {
+    Mockito.when(nDao.findIdsByStatusAndModifiedBeforeAfterId(Mockito.any(NotificationStatus.class),
+        Mockito.anyLong(), (String) Mockito.isNull(), Mockito.eq(TEST_BATCH_SIZE)))
+        .thenReturn(Arrays.asList("1", "2"));
+    Mockito.when(nDao.findIdsByStatusAndModifiedBeforeAfterId(Mockito.any(NotificationStatus.class),
+        Mockito.anyLong(), Mockito.eq("2"), Mockito.eq(TEST_BATCH_SIZE)))
+        .thenReturn(Arrays.asList("3"));
+    Mockito.when(nDao.deleteByStatusAndModifiedBeforeAndIdBetween(
+        Mockito.any(NotificationStatus.class), Mockito.anyLong(), Mockito.anyString(),
+        Mockito.anyString())).thenReturn(2, 1);
+    Mockito.when(tDao.deleteByNotificationIdIn(Mockito.anyCollectionOf(String.class)))
+        .thenReturn(4L, 1L);
+    service.cleanupOld(0);
+
+    Mockito.verify(nDao).deleteByStatusAndModifiedBeforeAndIdBetween(
+        Mockito.any(NotificationStatus.class), Mockito.anyLong(), Mockito.eq("1"),
+        Mockito.eq("2"));
+    Mockito.verify(nDao).deleteByStatusAndModifiedBeforeAndIdBetween(
+        Mockito.any(NotificationStatus.class), Mockito.anyLong(), Mockito.eq("3"),
+        Mockito.eq("3"));
+    CleanupStatus status = service.getStatus();
+    assertEquals("Cleanup should be completed", CleanupStatus.State.COMPLETED, status.getState());
+    assertEquals("Unexpected number of batches", 2, status.getBatches());
+    assertEquals("Unexpected number of deleted notifications", 3,
+        status.getNotificationsDeleted());
+    assertEquals("Unexpected number of deleted transmissions", 5,
+        status.getTransmissionsDeleted());
+  }
+
+  @Test
+  public void testCleanupOldProcessed() {
+    Mockito.when(nDao.findIdsByStatusAndModifiedBeforeAfterId(
+        Mockito.eq(NotificationStatus.PROCESSED), Mockito.anyLong(), Mockito.anyString(),
+        Mockito.anyInt())).thenReturn(new ArrayList<>());
+    service.cleanupOldProcessed(0);
+    Mockito.verify(tDao, Mockito.never())
+        .deleteByNotificationIdIn(Mockito.anyCollectionOf(String.class));
+    assertEquals("Cleanup should be completed", CleanupStatus.State.COMPLETED,
+        service.getStatus().getState());
+    assertEquals("Cleanup should be limited to processed notifications",
+        NotificationStatus.PROCESSED, service.getStatus().getNotificationStatus());
+  }
+
+  @Test
+  public void testCleanupOldException() {
+    Mockito.when(nDao.findIdsByStatusAndModifiedBeforeAfterId(Mockito.any(NotificationStatus.class),
+        Mockito.anyLong(), Mockito.anyString(), Mockito.anyInt()))
+        .thenThrow(new RuntimeException("test"));
+    try {
+      service.cleanupOld(0);
+      fail("Cleanup failure should raise a ServiceException");
+    } catch (ServiceException e) {
+      assertEquals("Failed cleanup should be reported", CleanupStatus.State.FAILED,
+          service.getStatus().getState());
+    }
+  }
+
 }
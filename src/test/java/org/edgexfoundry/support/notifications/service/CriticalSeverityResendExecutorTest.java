@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.ServiceException;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.ResendQueueItem;
+import org.edgexfoundry.support.notifications.service.impl.CriticalSeverityResendExecutor;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class CriticalSeverityResendExecutorTest {
+
+  private static final int BATCH_SIZE = 10;
+  private static final String TEST_ID = "123";
+  private static final String TEST_MISSING_ID = "456";
+
+  @InjectMocks
+  private CriticalSeverityResendExecutor executor;
+
+  @Mock
+  private ResendQueue resendQueue;
+
+  @Mock
+  private TransmissionDAO transmissionDAO;
+
+  @Mock
+  private DistributionCoordinator distributionCoordinator;
+
+  @Mock
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(executor, "batchSize", BATCH_SIZE);
+    ReflectionTestUtils.setField(executor, "pollers", 2);
+  }
+
+  @Test
+  public void testInitStartsPollers() {
+    executor.init();
+    Mockito.verify(scheduler, Mockito.times(2)).scheduleWithFixedDelay(Mockito.any(Runnable.class),
+        Mockito.anyLong());
+  }
+
+  @Test
+  public void testStartResendingNothingDue() {
+    executor.startResnding();
+    Mockito.verify(distributionCoordinator, Mockito.never())
+        .resendViaChannel(Mockito.any(Transmission.class));
+  }
+
+  @Test
+  public void testStartResending() {
+    List<ResendQueueItem> items = new ArrayList<>();
+    items.add(newItem(TEST_ID));
+    items.add(newItem(TEST_MISSING_ID));
+    Transmission trans = new Transmission();
+    trans.setId(TEST_ID);
+    List<Transmission> transmissions = new ArrayList<>();
+    transmissions.add(trans);
+    Mockito.when(resendQueue.claim(BATCH_SIZE)).thenReturn(items);
+    Mockito.when(transmissionDAO.findAll(Mockito.anyListOf(String.class)))
+        .thenReturn(transmissions);
+
+    executor.startResnding();
+    Mockito.verify(distributionCoordinator).resendViaChannel(trans);
+    Mockito.verify(resendQueue).complete(TEST_MISSING_ID);
+    Mockito.verify(resendQueue, Mockito.never()).complete(TEST_ID);
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testStartResendingException() {
+    Mockito.when(resendQueue.claim(BATCH_SIZE)).thenThrow(new RuntimeException("test"));
+    executor.startResnding();
+  }
+
+  private ResendQueueItem newItem(String transmissionId) {
+    ResendQueueItem item = new ResendQueueItem();
+    item.setTransmissionId(transmissionId);
+    return item;
+  }
+
+}
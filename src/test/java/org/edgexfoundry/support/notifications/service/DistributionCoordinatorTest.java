@@ -32,6 +32,7 @@ import org.edgexfoundry.support.domain.notifications.RESTfulChannel;
 import org.edgexfoundry.support.domain.notifications.Subscription;
 import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
 import org.edgexfoundry.support.notifications.service.impl.DistributionCoordinatorImpl;
 import org.edgexfoundry.support.notifications.service.impl.EMAILSendingService;
 import org.edgexfoundry.support.notifications.service.impl.RESTfulSendingService;
@@ -43,16 +44,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @Category(RequiresNone.class)
 public class DistributionCoordinatorTest {
 
+  private static final String TEST_RECEIVER = "test receiver";
+
   @InjectMocks
   private DistributionCoordinatorImpl coordinator;
 
   @Mock
   private SubscriptionDAO dao;
 
+  @Mock
+  private SubscriptionIndex subscriptionIndex;
+
   @Mock
   private RESTfulSendingService restfulSendingService;
 
@@ -100,6 +107,22 @@ public class DistributionCoordinatorTest {
     coordinator.distribute(note);
   }
 
+  @Test
+  public void distributeTestIndexSubscriptions() {
+    String[] labels = {"label1", "label2"};
+    note.setLabels(labels);
+    note.setCategory(NotificationCategory.SW_HEALTH);
+    List<Subscription> subs = new ArrayList<>();
+    subs.add(sub);
+    Mockito.when(subscriptionIndex.isReady()).thenReturn(true);
+    Mockito.when(subscriptionIndex.findInSubscribedCategoriesOrSubscribedLabels(
+        new String[] {"SW_HEALTH"}, labels)).thenReturn(subs);
+    coordinator.distribute(note);
+    Mockito.verify(dao, Mockito.never())
+        .findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+            Mockito.any(String[].class), Mockito.any(String[].class));
+  }
+
   @Test(expected = ServiceException.class)
   public void distributeTestDaoError() {
     String[] labels = {"label1", "label2"};
@@ -110,11 +133,84 @@ public class DistributionCoordinatorTest {
     coordinator.distribute(note);
   }
 
+  @Test
+  public void distributeCoalescesEmailChannels() {
+    note.setCategory(NotificationCategory.SW_HEALTH);
+    Subscription other = new Subscription();
+    other.setChannels(new Channel[] {channel});
+    List<Subscription> subs = new ArrayList<>();
+    subs.add(sub);
+    subs.add(other);
+    Mockito.when(dao.findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+        Mockito.any(String[].class), Mockito.any(String[].class))).thenReturn(subs);
+    coordinator.distribute(note);
+    Mockito.verify(emailSendingService).send(Mockito.eq(note),
+        Mockito.anyListOf(ChannelDelivery.class));
+    Mockito.verify(emailSendingService, Mockito.never()).send(Mockito.eq(note),
+        Mockito.any(Channel.class), Mockito.anyString());
+  }
+
   @Test(expected = DataValidationException.class)
   public void distributeWithNullNotification() {
     coordinator.distribute(null);
   }
 
+  @Test
+  public void distributeBatchLooksUpSubscriptionsOnce() {
+    Notification other = new Notification();
+    other.setCategory(NotificationCategory.SECURITY);
+    other.setLabels(new String[] {"Label3"});
+    note.setCategory(NotificationCategory.SW_HEALTH);
+    sub.setSubscribedLabels(new String[] {"label3"});
+    List<Subscription> subs = new ArrayList<>();
+    subs.add(sub);
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(other);
+    Mockito.when(dao.findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+        new String[] {"SW_HEALTH", "SECURITY"}, new String[] {"Label3"})).thenReturn(subs);
+    coordinator.distributeBatch(notes);
+    Mockito.verify(dao, Mockito.times(1))
+        .findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+            Mockito.any(String[].class), Mockito.any(String[].class));
+    Mockito.verify(emailSendingService, Mockito.never()).send(Mockito.eq(note),
+        Mockito.any(Channel.class), Mockito.anyString());
+    Mockito.verify(emailSendingService).send(Mockito.eq(other), Mockito.eq(channel),
+        Mockito.anyString());
+  }
+
+  @Test
+  public void distributeBatchSendsDigest() {
+    ReflectionTestUtils.setField(coordinator, "digestSubscriptions", new String[] {"Digest-Sub"});
+    Notification other = new Notification();
+    other.setLabels(new String[] {"label3"});
+    note.setLabels(new String[] {"label3"});
+    sub.setSlug("digest-sub");
+    sub.setReceiver(TEST_RECEIVER);
+    sub.setSubscribedLabels(new String[] {"label3"});
+    Subscription direct = new Subscription();
+    direct.setSlug("direct-sub");
+    direct.setSubscribedLabels(new String[] {"label3"});
+    direct.setChannels(new Channel[] {channel});
+    List<Subscription> subs = new ArrayList<>();
+    subs.add(sub);
+    subs.add(direct);
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(other);
+    Mockito.when(dao.findBySubscribedCategoriesInIgnoreCaseOrSubscribedLabelsInIgnoreCase(
+        Mockito.any(String[].class), Mockito.any(String[].class))).thenReturn(subs);
+    coordinator.distributeBatch(notes);
+    Mockito.verify(emailSendingService).sendDigest(notes, channel, TEST_RECEIVER);
+    Mockito.verify(emailSendingService, Mockito.times(2)).send(Mockito.any(Notification.class),
+        Mockito.eq(channel), Mockito.anyString());
+  }
+
+  @Test(expected = DataValidationException.class)
+  public void distributeBatchWithNullList() {
+    coordinator.distributeBatch(null);
+  }
+
   @Test
   public void testSendViaChannelEmail() {
     coordinator.sendViaChannel(note, sub);
@@ -17,6 +17,11 @@
  *******************************************************************************/
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.ChannelType;
@@ -29,18 +34,24 @@ import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.config.MailChannelProperties;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.ChannelDelivery;
+import org.edgexfoundry.support.notifications.service.BackoffPolicy;
 import org.edgexfoundry.support.notifications.service.EscalationService;
+import org.edgexfoundry.support.notifications.service.MailDeliveryService;
+import org.edgexfoundry.support.notifications.service.ResendQueue;
 import org.edgexfoundry.support.notifications.service.impl.EMAILSendingService;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
 
 @Category(RequiresNone.class)
 public class EMAILSendingServiceTest {
@@ -60,13 +71,22 @@ public class EMAILSendingServiceTest {
   private EscalationService escalation;
 
   @Mock
-  private ThreadPoolTaskScheduler scheduler;
+  private ResendQueue resendQueue;
+
+  @Mock
+  private BackoffPolicy backoffPolicy;
 
   @Mock
   private GeneralConfig generalConfig;
 
   @Mock
-  private JavaMailSender mailSendor;
+  private MailDeliveryService mailDeliveryService;
+
+  @Mock
+  private WorkSignal workSignal;
+
+  @Mock
+  private RateLimiter rateLimiter;
 
   private Notification note;
 
@@ -108,6 +128,46 @@ public class EMAILSendingServiceTest {
     service.send(note, channel, TEST_RECV);
   }
 
+  @Test
+  public void testSendCoalescesIdenticalAddresses() {
+    List<ChannelDelivery> deliveries = new ArrayList<>();
+    deliveries.add(new ChannelDelivery(channel, TEST_RECV));
+    deliveries.add(new ChannelDelivery(newChannel("FOO@bar.com"), "other"));
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    service.send(note, deliveries);
+    Mockito.verify(mailDeliveryService, Mockito.times(1))
+        .send(Mockito.any(SimpleMailMessage.class));
+    Mockito.verify(dao, Mockito.times(2)).insert(Mockito.any(Transmission.class));
+  }
+
+  @Test
+  public void testSendSplitsOverlappingAddresses() {
+    channel.setMailAddresses(new String[] {"a@bar.com", "b@bar.com"});
+    List<ChannelDelivery> deliveries = new ArrayList<>();
+    deliveries.add(new ChannelDelivery(channel, TEST_RECV));
+    deliveries.add(new ChannelDelivery(newChannel("b@bar.com", "c@bar.com"), "other"));
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    Mockito.doThrow(new MailSendException("test")).when(mailDeliveryService)
+        .send(Mockito.argThat(new ArgumentMatcher<SimpleMailMessage>() {
+          @Override
+          public boolean matches(Object argument) {
+            return "c@bar.com".equals(((SimpleMailMessage) argument).getTo()[0]);
+          }
+        }));
+    service.send(note, deliveries);
+
+    Mockito.verify(mailDeliveryService, Mockito.times(3))
+        .send(Mockito.any(SimpleMailMessage.class));
+    ArgumentCaptor<Transmission> captor = ArgumentCaptor.forClass(Transmission.class);
+    Mockito.verify(dao, Mockito.times(2)).insert(captor.capture());
+    assertEquals("Delivery with all mails sent should succeed", TransmissionStatus.SENT,
+        captor.getAllValues().get(0).getStatus());
+    assertEquals("Delivery with a failed mail should fail", TransmissionStatus.FAILED,
+        captor.getAllValues().get(1).getStatus());
+  }
+
   @Test
   public void testResend() {
     Transmission trans = new Transmission();
@@ -115,7 +175,8 @@ public class EMAILSendingServiceTest {
     trans.setNotification(note);
     trans.setRecords(new TransmissionRecord[] {});
     trans.setStatus(TransmissionStatus.FAILED);
-    Mockito.when(dao.save(Mockito.any(Transmission.class))).thenReturn(trans);
+    Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong())).thenReturn(1);
     service.resend(trans);
   }
 
@@ -126,8 +187,17 @@ public class EMAILSendingServiceTest {
     trans.setNotification(note);
     trans.setRecords(new TransmissionRecord[] {});
     trans.setStatus(TransmissionStatus.FAILED);
-    Mockito.when(dao.save(Mockito.any(Transmission.class))).thenThrow(new RuntimeException("test"));
+    Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong()))
+        .thenThrow(new RuntimeException("test"));
     service.resend(trans);
   }
 
+  private EmailChannel newChannel(String... addresses) {
+    EmailChannel other = new EmailChannel();
+    other.setMailAddresses(addresses);
+    other.setType(ChannelType.EMAIL);
+    return other;
+  }
+
 }
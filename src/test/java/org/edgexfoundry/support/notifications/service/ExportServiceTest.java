@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.dao.NotificationDAO;
+import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.service.impl.ExportServiceImpl;
+import org.edgexfoundry.support.notifications.test.data.NotificationData;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Category(RequiresNone.class)
+public class ExportServiceTest {
+
+  @InjectMocks
+  private ExportServiceImpl service;
+
+  @Mock
+  private NotificationDAO notificationDAO;
+
+  @Mock
+  private TransmissionDAO transmissionDAO;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+    ReflectionTestUtils.setField(service, "flushInterval", 1);
+  }
+
+  @Test
+  public void testExportNotificationsAsLines() throws IOException {
+    Notification first = NotificationData.newTestInstance();
+    first.setSlug("first");
+    Notification second = NotificationData.newTestInstance();
+    second.setSlug("second");
+    TestCursor<Notification> cursor = new TestCursor<>(Arrays.asList(first, second));
+    Mockito.when(notificationDAO.streamByCreatedBetweenAndLabelsIn(0, Long.MAX_VALUE, null))
+        .thenReturn(cursor);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals("Export did not count the notifications", 2,
+        service.exportNotifications(0, Long.MAX_VALUE, null, out));
+    String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+    assertEquals("Export did not write one line per notification", 2, lines.length);
+    assertTrue("Export did not keep the cursor order", lines[0].contains("\"first\""));
+    assertTrue("Export did not close the cursor", cursor.closed);
+  }
+
+  @Test
+  public void testExportClosesCursorOnWriteFailure() throws IOException {
+    TestCursor<Transmission> cursor = new TestCursor<>(Arrays.asList(new Transmission()));
+    Mockito.when(transmissionDAO.streamByCreatedBetweenAndStatus(0, Long.MAX_VALUE,
+        TransmissionStatus.FAILED)).thenReturn(cursor);
+    OutputStream out = Mockito.mock(OutputStream.class);
+    Mockito.doThrow(new IOException("client gone")).when(out).write(Mockito.any(byte[].class));
+
+    try {
+      service.exportTransmissions(0, Long.MAX_VALUE, TransmissionStatus.FAILED, out);
+      fail("Export did not fail with the write failure");
+    } catch (IOException e) {
+      assertTrue("Export did not close the cursor", cursor.closed);
+    }
+  }
+
+  @Test
+  public void testExportWithoutFlushIntervalFlushesAtEnd() throws IOException {
+    ReflectionTestUtils.setField(service, "flushInterval", 0);
+    TestCursor<Transmission> cursor =
+        new TestCursor<>(Arrays.asList(new Transmission(), new Transmission()));
+    Mockito.when(transmissionDAO.streamByCreatedBetweenAndStatus(0, Long.MAX_VALUE,
+        TransmissionStatus.FAILED)).thenReturn(cursor);
+    OutputStream out = Mockito.mock(OutputStream.class);
+
+    assertEquals("Export did not count the transmissions", 2,
+        service.exportTransmissions(0, Long.MAX_VALUE, TransmissionStatus.FAILED, out));
+    Mockito.verify(out, Mockito.times(1)).flush();
+  }
+
+  private static final class TestCursor<T> implements CloseableIterator<T> {
+
+    private final Iterator<T> iterator;
+    private boolean closed;
+
+    TestCursor(Iterable<T> documents) {
+      this.iterator = documents.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return iterator.next();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+  }
+
+}
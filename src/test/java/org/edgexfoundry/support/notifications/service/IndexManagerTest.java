@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.notifications.domain.IndexStatus;
+import org.edgexfoundry.support.notifications.service.impl.IndexManagerImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.AggregationOutput;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+
+@Category(RequiresNone.class)
+public class IndexManagerTest {
+
+  private static final String NOTIFICATION_COLLECTION = "notification";
+
+  @InjectMocks
+  private IndexManagerImpl manager;
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private RetentionPolicy retentionPolicy;
+
+  @Mock
+  private MongoConverter converter;
+
+  @Mock
+  private IndexOperations notificationIndexOps;
+
+  @Mock
+  private IndexOperations otherIndexOps;
+
+  @Mock
+  private DBCollection collection;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    Mockito.when(mongoTemplate.getCollectionName(Notification.class))
+        .thenReturn(NOTIFICATION_COLLECTION);
+    Mockito.when(mongoTemplate.getCollectionName(Transmission.class)).thenReturn("transmission");
+    Mockito.when(mongoTemplate.getCollectionName(Subscription.class)).thenReturn("subscription");
+    Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+    Mockito.doReturn(new MongoMappingContext()).when(converter).getMappingContext();
+    Mockito.when(mongoTemplate.indexOps(Mockito.anyString())).thenReturn(otherIndexOps);
+    Mockito.when(mongoTemplate.indexOps(NOTIFICATION_COLLECTION)).thenReturn(notificationIndexOps);
+    Mockito.when(mongoTemplate.getCollection(Mockito.anyString())).thenReturn(collection);
+
+    List<IndexInfo> indexes = new ArrayList<>();
+    indexes.add(newIndexInfo("_id_", IndexField.create("_id", Direction.ASC)));
+    indexes.add(newIndexInfo("created_-1__id_-1", IndexField.create("created", Direction.DESC),
+        IndexField.create("_id", Direction.DESC)));
+    indexes.add(newIndexInfo("foo_1", IndexField.create("foo", Direction.ASC)));
+    Mockito.when(notificationIndexOps.getIndexInfo()).thenReturn(indexes);
+  }
+
+  @Test
+  public void testProvisionCreatesMissingIndexesOnly() {
+    manager.provision();
+    ArgumentCaptor<Index> captor = ArgumentCaptor.forClass(Index.class);
+    Mockito.verify(notificationIndexOps, Mockito.atLeastOnce()).ensureIndex(captor.capture());
+    for (Index index : captor.getAllValues()) {
+      assertFalse("Existing index should not be created again",
+          new BasicDBObject("created", -1).append("_id", -1).equals(index.getIndexKeys()));
+    }
+    Mockito.verify(otherIndexOps, Mockito.atLeastOnce()).ensureIndex(Mockito.any(Index.class));
+  }
+
+  @Test
+  public void testProvisionTtlIndexWhenRetentionEnabled() {
+    Mockito.when(retentionPolicy.isEnabled()).thenReturn(true);
+    manager.provision();
+    ArgumentCaptor<Index> captor = ArgumentCaptor.forClass(Index.class);
+    Mockito.verify(notificationIndexOps, Mockito.atLeastOnce()).ensureIndex(captor.capture());
+    assertTrue("TTL index should be created", captor.getAllValues().stream().anyMatch(
+        index -> RetentionPolicy.TTL_INDEX_NAME.equals(index.getIndexOptions().get("name"))));
+  }
+
+  @Test
+  public void testGetIndexStatuses() {
+    DBObject stats = new BasicDBObject("name", "foo_1").append("accesses",
+        new BasicDBObject("ops", 0L));
+    AggregationOutput output = Mockito.mock(AggregationOutput.class);
+    Mockito.when(output.results()).thenReturn(Arrays.asList(stats));
+    Mockito.when(collection.aggregate(Mockito.anyListOf(DBObject.class))).thenReturn(output);
+
+    List<IndexStatus> statuses = manager.getIndexStatuses();
+    assertEquals("Declared index should be present", IndexStatus.State.PRESENT,
+        find(statuses, "created_-1__id_-1").getState());
+    assertEquals("Declared index should be missing", IndexStatus.State.MISSING,
+        find(statuses, "slug_1").getState());
+    IndexStatus undeclared = find(statuses, "foo_1");
+    assertEquals("Unknown index should be undeclared", IndexStatus.State.UNDECLARED,
+        undeclared.getState());
+    assertTrue("Index without accesses should be unused", undeclared.isUnused());
+    assertEquals("Id index should be present", IndexStatus.State.PRESENT,
+        find(statuses, "_id_").getState());
+  }
+
+  private IndexStatus find(List<IndexStatus> statuses, String name) {
+    return statuses.stream().filter(status -> NOTIFICATION_COLLECTION
+        .equals(status.getCollection()) && name.equals(status.getName())).findFirst().get();
+  }
+
+  private IndexInfo newIndexInfo(String name, IndexField... fields) {
+    IndexInfo info = Mockito.mock(IndexInfo.class);
+    Mockito.when(info.getName()).thenReturn(name);
+    Mockito.when(info.getIndexFields()).thenReturn(Arrays.asList(fields));
+    return info;
+  }
+
+}
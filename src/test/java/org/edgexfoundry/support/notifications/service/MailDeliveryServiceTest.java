@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.edgexfoundry.support.notifications.config.MailChannelProperties;
+import org.edgexfoundry.support.notifications.service.impl.MailDeliveryServiceImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class MailDeliveryServiceTest {
+
+  @InjectMocks
+  private MailDeliveryServiceImpl service;
+
+  @Mock
+  private JavaMailSender mailSender;
+
+  @Mock
+  private MailChannelProperties mailChannelProps;
+
+  @Spy
+  private AsyncTaskExecutor mailDeliveryExecutor = new SimpleAsyncTaskExecutor();
+
+  @Mock
+  private ThreadPoolTaskExecutor emailSendExecutor;
+
+  private SimpleMailMessage msg;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(service, "mailDeliveryExecutor", mailDeliveryExecutor);
+    ReflectionTestUtils.setField(service, "emailSendExecutor", emailSendExecutor);
+    Mockito.when(mailChannelProps.getBatchWindow()).thenReturn(200L);
+    Mockito.when(mailChannelProps.getBatchMaxSize()).thenReturn(50);
+    Mockito.when(mailChannelProps.getIdleTimeout()).thenReturn(1000L);
+    Mockito.when(mailChannelProps.getSendTimeout()).thenReturn(5000L);
+    Mockito.when(mailChannelProps.getQueueCapacity()).thenReturn(100);
+    msg = new SimpleMailMessage();
+    msg.setTo("foo@bar.com");
+    msg.setText("test");
+    service.start();
+  }
+
+  @After
+  public void cleanup() {
+    service.stop();
+  }
+
+  @Test
+  public void testSend() {
+    service.send(msg);
+    Mockito.verify(mailSender).send(new SimpleMailMessage[] {msg});
+  }
+
+  @Test
+  public void testSendBatchesConcurrentMails() throws InterruptedException {
+    Mockito.when(emailSendExecutor.getActiveCount()).thenReturn(2);
+    SimpleMailMessage other = new SimpleMailMessage(msg);
+    other.setTo("other@bar.com");
+    CountDownLatch done = new CountDownLatch(2);
+    new Thread(() -> {
+      service.send(msg);
+      done.countDown();
+    }).start();
+    new Thread(() -> {
+      service.send(other);
+      done.countDown();
+    }).start();
+    done.await(5, TimeUnit.SECONDS);
+
+    ArgumentCaptor<SimpleMailMessage[]> captor =
+        ArgumentCaptor.forClass(SimpleMailMessage[].class);
+    Mockito.verify(mailSender).send(captor.capture());
+    assertEquals("Mails queued within the batch window should be sent together", 2,
+        captor.getValue().length);
+  }
+
+  @Test
+  public void testSendSkipsWindowWhenAllSendersWait() {
+    service.stop();
+    Mockito.when(mailChannelProps.getBatchWindow()).thenReturn(4000L);
+    Mockito.when(emailSendExecutor.getActiveCount()).thenReturn(1);
+    service.start();
+    long started = System.currentTimeMillis();
+    service.send(msg);
+    assertTrue("Mail of the only sender waited out the batch window",
+        System.currentTimeMillis() - started < 4000);
+    Mockito.verify(mailSender).send(new SimpleMailMessage[] {msg});
+  }
+
+  @Test
+  public void testSendFailedMessage() {
+    Map<Object, Exception> failed = new HashMap<>();
+    failed.put(msg, new RuntimeException("rejected"));
+    Mockito.doThrow(new MailSendException(failed)).when(mailSender)
+        .send(Mockito.any(SimpleMailMessage[].class));
+    try {
+      service.send(msg);
+      fail("A failed mail should raise a MailSendException");
+    } catch (MailSendException e) {
+      assertTrue("Unexpected failure", e.getMessage().startsWith("rejected"));
+    }
+  }
+
+  @Test
+  public void testSendRejectedWhenQueueIsFull() throws InterruptedException {
+    service.stop();
+    Mockito.when(mailChannelProps.getQueueCapacity()).thenReturn(1);
+    service.start();
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.doAnswer(invocation -> {
+      sending.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(mailSender).send(Mockito.any(SimpleMailMessage[].class));
+    try {
+      new Thread(() -> service.send(msg)).start();
+      assertTrue("Delivery did not start", sending.await(5, TimeUnit.SECONDS));
+      new Thread(() -> service.send(msg)).start();
+      BlockingQueue<?> queue = (BlockingQueue<?>) ReflectionTestUtils.getField(service, "queue");
+      long deadline = System.currentTimeMillis() + 5000;
+      while (queue.remainingCapacity() > 0 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      service.send(msg);
+      fail("A mail beyond the queue capacity should raise a MailSendException");
+    } catch (MailSendException e) {
+      assertTrue("Unexpected failure", e.getMessage().startsWith("mail queue is full"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+}
@@ -18,26 +18,45 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
+import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.notifications.config.LatencyProperties;
+import org.edgexfoundry.support.notifications.config.LatencyProperties.Target;
 import org.edgexfoundry.support.notifications.test.data.NotificationData;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
+import org.edgexfoundry.support.notifications.service.impl.AdaptiveTrigger;
 import org.edgexfoundry.support.notifications.service.impl.NormalSeverityDistributionExecutor;
+import org.edgexfoundry.support.notifications.service.impl.WorkSignalImpl;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @Category(RequiresNone.class)
 public class NormalSeverityDistributionExecutorTest {
 
+  private static final int PAGE_SIZE = 1;
+  private static final long TOKEN = 7L;
+
   @InjectMocks
   private NormalSeverityDistributionExecutor executor;
 
@@ -47,25 +66,149 @@ public class NormalSeverityDistributionExecutorTest {
   @Mock
   private DistributionCoordinator distributionCoordinator;
 
+  @Mock
+  private WorkSignal workSignal;
+
+  @Mock
+  private LatencyProperties latencyProperties;
+
+  @Mock
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Mock
+  private AsyncTaskExecutor distributionExecutor;
+
   @Before
   public void setup() {
     MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(executor, "pageSize", PAGE_SIZE);
+    ReflectionTestUtils.setField(executor, "scheduler", scheduler);
+    ReflectionTestUtils.setField(executor, "distributionExecutor", distributionExecutor);
+    Mockito.when(workSignal.begin(Work.NORMAL_DISTRIBUTION)).thenReturn(TOKEN);
+  }
+
+  @Test
+  public void testInitRegistersListenerAndSchedule() {
+    Mockito.when(latencyProperties.getTarget(NotificationSeverity.NORMAL))
+        .thenReturn(new Target(300000, 5000, 2));
+    executor.init();
+    Mockito.verify(workSignal).register(Mockito.eq(Work.NORMAL_DISTRIBUTION),
+        Mockito.any(Runnable.class));
+    Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), Mockito.any(Date.class));
+  }
+
+  @Test
+  public void testSignalRunsOnDistributionExecutor() {
+    Mockito.when(latencyProperties.getTarget(NotificationSeverity.NORMAL))
+        .thenReturn(new Target(300000, 5000, 2));
+    executor.init();
+    ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(workSignal).register(Mockito.eq(Work.NORMAL_DISTRIBUTION), listener.capture());
+    listener.getValue().run();
+    Mockito.verify(distributionExecutor).execute(Mockito.any(Runnable.class));
+    Mockito.verify(workSignal, Mockito.never()).begin(Work.NORMAL_DISTRIBUTION);
   }
 
   @Test
   public void testStartDistributing() {
     executor.startDistributing();
+    Mockito.verify(workSignal).finish(Work.NORMAL_DISTRIBUTION, TOKEN);
+  }
+
+  @Test
+  public void testScheduledTickWithoutSignalDistributes() {
+    WorkSignalImpl signal = new WorkSignalImpl();
+    ReflectionTestUtils.setField(executor, "workSignal", signal);
+    signal.finish(Work.NORMAL_DISTRIBUTION, signal.begin(Work.NORMAL_DISTRIBUTION));
+    Notification note = NotificationData.newTestInstance();
+    note.setId("1");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    Mockito.when(notificationDAO.findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, null, PAGE_SIZE)).thenReturn(notes);
+    executor.startDistributing();
+    Mockito.verify(distributionCoordinator).distributeBatch(notes);
+    Mockito.verify(notificationDAO).updateStatusByIdIn(Mockito.anyListOf(String.class),
+        Mockito.eq(NotificationStatus.PROCESSED));
+  }
+
+  @Test
+  public void testStartDistributingWhileAnotherRun() {
+    Mockito.when(workSignal.begin(Work.NORMAL_DISTRIBUTION)).thenReturn(WorkSignal.NONE);
+    executor.startDistributing();
+    Mockito.verify(notificationDAO, Mockito.never()).findBySeverityAndStatusAfterId(
+        Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyInt());
+    Mockito.verify(workSignal, Mockito.never()).finish(Mockito.any(Work.class),
+        Mockito.anyLong());
+  }
+
+  @Test
+  public void testScheduleNotAdaptedWhileAnotherRun() {
+    AdaptiveTrigger trigger = new AdaptiveTrigger(new Target(300000, 5000, 2));
+    ReflectionTestUtils.setField(executor, "trigger", trigger);
+    Mockito.when(workSignal.begin(Work.NORMAL_DISTRIBUTION)).thenReturn(WorkSignal.NONE);
+    executor.startDistributing();
+    assertEquals("Schedule backed off for a run which did not scan", 5000,
+        trigger.getInterval());
+  }
+
+  @Test
+  public void testScheduleBacksOffAfterIdleScan() {
+    AdaptiveTrigger trigger = new AdaptiveTrigger(new Target(300000, 5000, 2));
+    ReflectionTestUtils.setField(executor, "trigger", trigger);
+    executor.startDistributing();
+    assertEquals("Schedule did not back off after a scan without work", 10000,
+        trigger.getInterval());
+  }
+
+  @Test
+  public void testNextRunScheduledAfterCompletion() {
+    AdaptiveTrigger trigger = new AdaptiveTrigger(new Target(300000, 5000, 2));
+    ReflectionTestUtils.setField(executor, "trigger", trigger);
+    long started = System.currentTimeMillis();
+    executor.startDistributing();
+    ArgumentCaptor<Date> next = ArgumentCaptor.forClass(Date.class);
+    Mockito.verify(scheduler).schedule(Mockito.any(Runnable.class), next.capture());
+    assertTrue("Next run was not scheduled by the adapted interval after the completion",
+        next.getValue().getTime() >= started + 10000);
+  }
+
+  @Test
+  public void testNoRunScheduledWhileAnotherRun() {
+    ReflectionTestUtils.setField(executor, "trigger",
+        new AdaptiveTrigger(new Target(300000, 5000, 2)));
+    Mockito.when(workSignal.begin(Work.NORMAL_DISTRIBUTION)).thenReturn(WorkSignal.NONE);
+    executor.startDistributing();
+    Mockito.verify(scheduler, Mockito.never()).schedule(Mockito.any(Runnable.class),
+        Mockito.any(Date.class));
+  }
+
+  @Test(expected = ServiceException.class)
+  public void testStartDistributingExceptionLeavesWorkPending() {
+    Mockito.when(notificationDAO.findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, null, PAGE_SIZE)).thenThrow(new RuntimeException("test"));
+    try {
+      executor.startDistributing();
+    } finally {
+      Mockito.verify(workSignal).finish(Work.NORMAL_DISTRIBUTION, WorkSignal.NONE);
+    }
   }
 
   @Test
   public void testStartDistributingWithNotifiations() {
     Notification note = new Notification();
     note = NotificationData.newTestInstance();
+    note.setId("1");
     List<Notification> notes = new ArrayList<>();
     notes.add(note);
-    Mockito.when(notificationDAO.findBySeverityAndStatus(NotificationData.TEST_SEV,
-        NotificationData.TEST_STATUS)).thenReturn(notes);
+    Mockito.when(notificationDAO.findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, null, PAGE_SIZE)).thenReturn(notes);
     executor.startDistributing();
+    Mockito.verify(distributionCoordinator).distributeBatch(notes);
+    Mockito.verify(notificationDAO).updateStatusByIdIn(Mockito.anyListOf(String.class),
+        Mockito.eq(NotificationStatus.PROCESSED));
+    Mockito.verify(notificationDAO).findBySeverityAndStatusAfterId(NotificationData.TEST_SEV,
+        NotificationData.TEST_STATUS, "1", PAGE_SIZE);
   }
 
 }
@@ -18,21 +18,34 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
 import org.edgexfoundry.support.notifications.service.impl.NormalSeverityResendExecutor;
+import org.edgexfoundry.support.notifications.service.impl.WorkSignalImpl;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @Category(RequiresNone.class)
 public class NormalSeverityResendExecutorTest {
 
+  private static final int BATCH_SIZE = 2;
+  private static final long LEASE = 1000;
+  private static final int RESEND_LIMIT = 3;
+  private static final long TOKEN = 7L;
+
   @InjectMocks
   private NormalSeverityResendExecutor executor;
 
@@ -45,9 +58,15 @@ public class NormalSeverityResendExecutorTest {
   @Mock
   private GeneralConfig generalConfig;
 
+  @Mock
+  private WorkSignal workSignal;
+
   @Before
   public void setup() {
     MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(executor, "batchSize", BATCH_SIZE);
+    ReflectionTestUtils.setField(executor, "lease", LEASE);
+    Mockito.when(workSignal.begin(Work.NORMAL_RESEND)).thenReturn(TOKEN);
   }
 
   @Test
@@ -55,4 +74,44 @@ public class NormalSeverityResendExecutorTest {
     executor.startResnding();
   }
 
+  @Test
+  public void testStartResendingClaimsInBatches() {
+    List<Transmission> batch = new ArrayList<>();
+    batch.add(new Transmission());
+    batch.add(new Transmission());
+    List<Transmission> last = new ArrayList<>();
+    last.add(new Transmission());
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(RESEND_LIMIT);
+    Mockito.when(dao.claimFailed(Mockito.eq(RESEND_LIMIT), Mockito.anyLong(), Mockito.anyString(),
+        Mockito.anyLong(), Mockito.anyLong(), Mockito.eq(BATCH_SIZE))).thenReturn(batch, last);
+    executor.startResnding();
+    Mockito.verify(dao, Mockito.times(2)).claimFailed(Mockito.anyInt(), Mockito.anyLong(),
+        Mockito.anyString(), Mockito.anyLong(), Mockito.anyLong(), Mockito.anyInt());
+    Mockito.verify(distributionCoordinator, Mockito.times(3))
+        .resendViaChannel(Mockito.any(Transmission.class));
+    Mockito.verify(workSignal).finish(Work.NORMAL_RESEND, TOKEN);
+  }
+
+  @Test
+  public void testScheduledTickWithoutSignalResends() {
+    WorkSignalImpl signal = new WorkSignalImpl();
+    ReflectionTestUtils.setField(executor, "workSignal", signal);
+    signal.finish(Work.NORMAL_RESEND, signal.begin(Work.NORMAL_RESEND));
+    List<Transmission> batch = new ArrayList<>();
+    batch.add(new Transmission());
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(RESEND_LIMIT);
+    Mockito.when(dao.claimFailed(Mockito.eq(RESEND_LIMIT), Mockito.anyLong(), Mockito.anyString(),
+        Mockito.anyLong(), Mockito.anyLong(), Mockito.eq(BATCH_SIZE))).thenReturn(batch);
+    executor.startResnding();
+    Mockito.verify(distributionCoordinator).resendViaChannel(batch.get(0));
+  }
+
+  @Test
+  public void testStartResendingWhileAnotherRun() {
+    Mockito.when(workSignal.begin(Work.NORMAL_RESEND)).thenReturn(WorkSignal.NONE);
+    executor.startResnding();
+    Mockito.verify(dao, Mockito.never()).claimFailed(Mockito.anyInt(), Mockito.anyLong(),
+        Mockito.anyString(), Mockito.anyLong(), Mockito.anyLong(), Mockito.anyInt());
+  }
+
 }
@@ -18,9 +18,13 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.edgexfoundry.exception.controller.ClientException;
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.exception.controller.NotFoundException;
@@ -30,6 +34,9 @@ import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
 import org.edgexfoundry.support.notifications.test.data.NotificationData;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult;
+import org.edgexfoundry.support.notifications.domain.BatchItemResult.Status;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinator;
 import org.edgexfoundry.support.notifications.service.impl.NotificationHandlerImpl;
 import org.edgexfoundry.test.category.RequiresNone;
@@ -60,6 +67,18 @@ public class NotificationHandlerTest {
   @Mock
   private DistributionCoordinator distributionCoordinator;
 
+  @Mock
+  private CleanupService cleanupService;
+
+  @Mock
+  private WorkSignal workSignal;
+
+  @Mock
+  private SuppressionEngine suppressionEngine;
+
+  @Mock
+  private RateLimiter rateLimiter;
+
   private Notification note = new Notification();
 
   @Before
@@ -71,7 +90,8 @@ public class NotificationHandlerTest {
   @Test
   public void testReceiveNotification() {
     Mockito.when(notificationDAO.insert(note)).thenReturn(note);
-    handler.receiveNotification(note);
+    assertEquals("Stored notification was not accepted", Status.ACCEPTED,
+        handler.receiveNotification(note).getStatus());
   }
 
   @Test(expected = DataValidationException.class)
@@ -94,6 +114,39 @@ public class NotificationHandlerTest {
     Mockito.when(notificationDAO.insert(note)).thenReturn(note);
     Mockito.when(notificationDAO.save(note)).thenReturn(note);
     handler.receiveNotification(note);
+    Mockito.verify(workSignal).signal(WorkSignal.Work.NORMAL_DISTRIBUTION);
+  }
+
+  @Test
+  public void testReceiveNotificationSuppressed() {
+    Mockito.when(suppressionEngine.fingerprint(Mockito.same(note))).thenReturn("fingerprint");
+    Mockito.when(suppressionEngine.suppress("fingerprint", 1))
+        .thenReturn(new Occurrence("123", "original", "fingerprint", 2, 0));
+    BatchItemResult result = handler.receiveNotification(note);
+    assertEquals("Repeat was not reported as suppressed", Status.SUPPRESSED, result.getStatus());
+    assertEquals("Repeat does not name the stored notification", "original",
+        result.getRepeatOf());
+    Mockito.verify(notificationDAO, Mockito.never()).insert(note);
+    Mockito.verify(suppressionEngine, Mockito.never()).track(note, "fingerprint", 1);
+  }
+
+  @Test
+  public void testReceiveNotificationRateLimited() {
+    Mockito.when(rateLimiter.tryAcquire(RateLimiter.Scope.SENDER, note.getSender()))
+        .thenReturn(1500L);
+    BatchItemResult result = handler.receiveNotification(note);
+    assertEquals("Sender over its rate limit was not rejected", Status.RATE_LIMITED,
+        result.getStatus());
+    assertEquals("Rejection does not tell how long to wait", 1500, result.getRetryAfter());
+    Mockito.verify(notificationDAO, Mockito.never()).insert(note);
+  }
+
+  @Test
+  public void testReceiveNotificationTracked() {
+    Mockito.when(suppressionEngine.fingerprint(Mockito.same(note))).thenReturn("fingerprint");
+    Mockito.when(notificationDAO.insert(note)).thenReturn(note);
+    handler.receiveNotification(note);
+    Mockito.verify(suppressionEngine).track(note, "fingerprint", 1);
   }
 
   @Test(expected = ClientException.class)
@@ -101,11 +154,162 @@ public class NotificationHandlerTest {
     handler.receiveNotification(null);
   }
 
+  @Test
+  public void testReceiveNotifications() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Notification sameSlug = NotificationData.newTestInstance();
+    sameSlug.setSlug(NotificationData.TEST_SLUG.toUpperCase());
+    Notification noSlug = NotificationData.newTestInstance();
+    noSlug.setSlug("");
+    Notification existing = NotificationData.newTestInstance();
+    existing.setSlug("existing");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(sameSlug);
+    notes.add(null);
+    notes.add(noSlug);
+    notes.add(existing);
+    List<Notification> found = new ArrayList<>();
+    found.add(existing);
+    Mockito.when(notificationDAO.findBySlugInIgnoreCase(Mockito.anyListOf(String.class)))
+        .thenReturn(found);
+
+    List<BatchItemResult> results = handler.receiveNotifications(notes);
+    assertEquals("Batch did not return one result per notification", notes.size(),
+        results.size());
+    assertEquals("Valid notification was not accepted", Status.ACCEPTED,
+        results.get(0).getStatus());
+    assertEquals("Slug repeated in batch was not rejected", Status.DUPLICATED,
+        results.get(1).getStatus());
+    assertEquals("Null notification was not rejected", Status.INVALID, results.get(2).getStatus());
+    assertEquals("Empty slug was not rejected", Status.INVALID, results.get(3).getStatus());
+    assertEquals("Existing slug was not rejected", Status.DUPLICATED,
+        results.get(4).getStatus());
+    Mockito.verify(notificationDAO).insert(Mockito.anyListOf(Notification.class));
+    Mockito.verify(distributionCoordinator).distribute(note);
+  }
+
+  @Test
+  public void testReceiveNotificationsConcurrentDuplicateKey() {
+    Notification other = NotificationData.newTestInstance();
+    other.setSlug("other");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(other);
+    Mockito.when(notificationDAO.insert(Mockito.anyListOf(Notification.class)))
+        .thenThrow(new DuplicateKeyException("test"));
+    Mockito.when(notificationDAO.findAll(Mockito.anyListOf(String.class)))
+        .thenReturn(notes.subList(0, 1));
+    Mockito.when(notificationDAO.insert(other)).thenThrow(new DuplicateKeyException("test"));
+
+    List<BatchItemResult> results = handler.receiveNotifications(notes);
+    assertEquals("Inserted notification was not accepted", Status.ACCEPTED,
+        results.get(0).getStatus());
+    assertEquals("Concurrently taken slug was not rejected", Status.DUPLICATED,
+        results.get(1).getStatus());
+  }
+
+  @Test
+  public void testReceiveNotificationsRateLimited() {
+    Notification noisy = NotificationData.newTestInstance();
+    noisy.setSlug("noisy");
+    noisy.setSender("noisy");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(noisy);
+    Mockito.when(rateLimiter.tryAcquire(RateLimiter.Scope.SENDER, "noisy")).thenReturn(1000L);
+
+    List<BatchItemResult> results = handler.receiveNotifications(notes);
+    assertEquals("Notification of a sender within its rate limit was not accepted",
+        Status.ACCEPTED, results.get(0).getStatus());
+    assertEquals("Notification of a sender over its rate limit was not rejected",
+        Status.RATE_LIMITED, results.get(1).getStatus());
+  }
+
+  @Test
+  public void testReceiveNotificationsRejectedTakeNoToken() {
+    Notification noSlug = NotificationData.newTestInstance();
+    noSlug.setSlug("");
+    Notification existing = NotificationData.newTestInstance();
+    existing.setSlug("existing");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(noSlug);
+    notes.add(existing);
+    List<Notification> found = new ArrayList<>();
+    found.add(existing);
+    Mockito.when(notificationDAO.findBySlugInIgnoreCase(Mockito.anyListOf(String.class)))
+        .thenReturn(found);
+
+    handler.receiveNotifications(notes);
+    Mockito.verify(rateLimiter, Mockito.never()).tryAcquire(Mockito.any(RateLimiter.Scope.class),
+        Mockito.anyString());
+  }
+
+  @Test
+  public void testReceiveNotificationsSuppressesRepeats() {
+    Notification repeat = NotificationData.newTestInstance();
+    repeat.setSlug("repeat");
+    Notification recent = NotificationData.newTestInstance();
+    recent.setSlug("recent");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(repeat);
+    notes.add(recent);
+    Mockito.when(suppressionEngine.isEnabled()).thenReturn(true);
+    Mockito.when(suppressionEngine.fingerprint(Mockito.same(note))).thenReturn("storm");
+    Mockito.when(suppressionEngine.fingerprint(Mockito.same(repeat))).thenReturn("storm");
+    Mockito.when(suppressionEngine.fingerprint(Mockito.same(recent))).thenReturn("recent");
+    Mockito.when(suppressionEngine.suppress("recent", 1))
+        .thenReturn(new Occurrence("456", "stored", "recent", 2, 0));
+
+    List<BatchItemResult> results = handler.receiveNotifications(notes);
+    assertEquals("First of the repeats was not accepted", Status.ACCEPTED,
+        results.get(0).getStatus());
+    assertEquals("Repeat within the batch was not suppressed", Status.SUPPRESSED,
+        results.get(1).getStatus());
+    assertEquals("Repeat within the batch does not name the kept notification", note.getSlug(),
+        results.get(1).getRepeatOf());
+    assertEquals("Repeat of a stored notification was not suppressed", Status.SUPPRESSED,
+        results.get(2).getStatus());
+    assertEquals("Repeat does not name the stored notification", "stored",
+        results.get(2).getRepeatOf());
+    Mockito.verify(suppressionEngine).track(Mockito.same(note), Mockito.eq("storm"),
+        Mockito.eq(2));
+  }
+
+  @Test(expected = ClientException.class)
+  public void testReceiveNotificationsWithNull() {
+    handler.receiveNotifications(null);
+  }
+
   @Test
   public void testFindBySlug() {
     assertNull("Did not return null on find by", handler.findBySlug(NotificationData.TEST_SLUG));
   }
 
+  @Test
+  public void testFindOccurrenceWithoutRepeats() {
+    note.setId("123");
+    Mockito.when(notificationDAO.findBySlugIgnoreCase(NotificationData.TEST_SLUG)).thenReturn(note);
+    Occurrence occurrence = handler.findOccurrence(NotificationData.TEST_SLUG);
+    assertEquals("Notification without repeats did not occur once", 1, occurrence.getCount());
+    assertEquals("Occurrence does not refer to the notification", "123", occurrence.getId());
+  }
+
+  @Test
+  public void testFindOccurrence() {
+    Occurrence tracked = new Occurrence("123", NotificationData.TEST_SLUG, "fingerprint", 5, 0);
+    Mockito.when(notificationDAO.findBySlugIgnoreCase(NotificationData.TEST_SLUG)).thenReturn(note);
+    Mockito.when(suppressionEngine.findOccurrence(Mockito.same(note))).thenReturn(tracked);
+    assertEquals("Tracked occurrences were not returned", tracked,
+        handler.findOccurrence(NotificationData.TEST_SLUG));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void testFindOccurrenceNotFound() {
+    handler.findOccurrence(NotificationData.TEST_SLUG);
+  }
+
   @Test
   public void testSearchBySender() {
     assertTrue("Did not return emty list on find by",
@@ -180,6 +384,7 @@ public class NotificationHandlerTest {
   public void testDeleteNotificationAndTransmissionsBySlug() {
     Mockito.when(notificationDAO.findBySlugIgnoreCase(NotificationData.TEST_SLUG)).thenReturn(note);
     handler.deleteNotificationAndTransmissionsBySlug(NotificationData.TEST_SLUG);
+    Mockito.verify(suppressionEngine).untrack(note);
   }
 
   @Test(expected = NotFoundException.class)
@@ -202,6 +407,7 @@ public class NotificationHandlerTest {
   @Test
   public void testDeleteOldProcessedNotificationsAndTransmissions() {
     handler.deleteOldProcessedNotificationsAndTransmissions(0);
+    Mockito.verify(cleanupService).cleanupOldProcessed(0);
   }
 
 
@@ -17,29 +17,49 @@
  *******************************************************************************/
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.edgexfoundry.exception.controller.DataValidationException;
 import org.edgexfoundry.exception.controller.ServiceException;
 import org.edgexfoundry.support.domain.notifications.ChannelType;
 import org.edgexfoundry.support.domain.notifications.EmailChannel;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.NotificationSeverity;
 import org.edgexfoundry.support.domain.notifications.RESTfulChannel;
 import org.edgexfoundry.support.domain.notifications.Transmission;
 import org.edgexfoundry.support.domain.notifications.TransmissionRecord;
 import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.service.BackoffPolicy;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistry;
 import org.edgexfoundry.support.notifications.service.EscalationService;
+import org.edgexfoundry.support.notifications.service.ResendQueue;
 import org.edgexfoundry.support.notifications.service.impl.RESTfulSendingService;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.mockito.Spy;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Category(RequiresNone.class)
 public class RESTfulSendingServiceTest {
@@ -56,11 +76,29 @@ public class RESTfulSendingServiceTest {
   private EscalationService escalation;
 
   @Mock
-  private ThreadPoolTaskScheduler scheduler;
+  private ResendQueue resendQueue;
+
+  @Mock
+  private BackoffPolicy backoffPolicy;
+
+  @Mock
+  private CircuitBreakerRegistry circuitBreakerRegistry;
 
   @Mock
   private GeneralConfig generalConfig;
 
+  @Mock
+  private WorkSignal workSignal;
+
+  @Mock
+  private RateLimiter rateLimiter;
+
+  @Spy
+  private RestTemplate restTemplate = new RestTemplate();
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
   private Notification note;
 
   private RESTfulChannel channel;
@@ -74,6 +112,7 @@ public class RESTfulSendingServiceTest {
     channel.setType(ChannelType.REST);
     channel.setUrl("http://www.google.com");
     channel.setHttpMethod(RequestMethod.GET);
+    Mockito.when(circuitBreakerRegistry.allowRequest(Mockito.anyString())).thenReturn(true);
   }
 
   @Test
@@ -91,6 +130,225 @@ public class RESTfulSendingServiceTest {
     service.send(note, channel, TEST_RECV);
   }
 
+  @Test
+  public void testSendCriticalFailedSchedulesResend() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    channel.setUrl("http://localhost:9999");
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(3);
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    service.send(note, channel, TEST_RECV);
+    Mockito.verify(resendQueue).schedule(Mockito.anyString(), Mockito.anyLong());
+    Mockito.verify(escalation, Mockito.never()).escalate(Mockito.any(Transmission.class));
+  }
+
+  @Test
+  public void testResendCriticalSentCompletesResend() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setNotification(note);
+    trans.setRecords(new TransmissionRecord[] {});
+    trans.setStatus(TransmissionStatus.SENT);
+    trans.setResendCount(1);
+    Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong())).thenReturn(1);
+    service.resend(trans);
+    Mockito.verify(resendQueue).complete("123");
+  }
+
+  @Test
+  public void testSendDeferredByRateLimit() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Mockito.when(rateLimiter.tryAcquire(RateLimiter.Scope.SUBSCRIPTION, TEST_RECV))
+        .thenReturn(60000L);
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(0);
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    long before = System.currentTimeMillis();
+    service.send(note, channel, TEST_RECV);
+
+    Mockito.verify(circuitBreakerRegistry, Mockito.never()).allowRequest(Mockito.anyString());
+    ArgumentCaptor<Transmission> transmission = ArgumentCaptor.forClass(Transmission.class);
+    Mockito.verify(dao).insert(transmission.capture());
+    assertEquals("Deferred delivery was not recorded as failed", TransmissionStatus.FAILED,
+        transmission.getValue().getStatus());
+    assertEquals("Deferred delivery was counted", 0, transmission.getValue().getResendCount());
+    Mockito.verify(escalation, Mockito.never()).escalate(Mockito.any(Transmission.class));
+    ArgumentCaptor<Long> nextAttempt = ArgumentCaptor.forClass(Long.class);
+    Mockito.verify(resendQueue).schedule(Mockito.anyString(), nextAttempt.capture());
+    assertTrue("Resend was scheduled before the receiver has a token again",
+        nextAttempt.getValue() >= before + 60000);
+  }
+
+  @Test
+  public void testResendPostponedByRateLimit() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setNotification(note);
+    trans.setReceiver(TEST_RECV);
+    trans.setStatus(TransmissionStatus.FAILED);
+    trans.setResendCount(1);
+    Mockito.when(rateLimiter.tryAcquire(RateLimiter.Scope.SUBSCRIPTION, TEST_RECV))
+        .thenReturn(1000L);
+    service.resend(trans);
+    Mockito.verify(dao, Mockito.never()).appendRecord(Mockito.anyString(),
+        Mockito.any(TransmissionRecord.class), Mockito.any(TransmissionStatus.class),
+        Mockito.anyLong());
+    Mockito.verify(resendQueue).schedule(Mockito.eq("123"), Mockito.anyLong());
+    assertEquals("Postponed resend was counted", 1, trans.getResendCount());
+  }
+
+  @Test
+  public void testResendNormalPostponedByRateLimit() {
+    note.setSeverity(NotificationSeverity.NORMAL);
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setNotification(note);
+    trans.setReceiver(TEST_RECV);
+    trans.setStatus(TransmissionStatus.FAILED);
+    trans.setResendCount(1);
+    Mockito.when(rateLimiter.tryAcquire(RateLimiter.Scope.SUBSCRIPTION, TEST_RECV))
+        .thenReturn(1000L);
+    Mockito.when(dao.deferById(Mockito.eq("123"), Mockito.anyLong())).thenReturn(1);
+    long before = System.currentTimeMillis();
+    service.resend(trans);
+
+    Mockito.verify(dao, Mockito.never()).appendRecord(Mockito.anyString(),
+        Mockito.any(TransmissionRecord.class), Mockito.any(TransmissionStatus.class),
+        Mockito.anyLong());
+    ArgumentCaptor<Long> until = ArgumentCaptor.forClass(Long.class);
+    Mockito.verify(dao).deferById(Mockito.eq("123"), until.capture());
+    assertTrue("Lease was not held until the receiver has a token again",
+        until.getValue() >= before + 1000);
+    Mockito.verify(workSignal).signal(WorkSignal.Work.NORMAL_RESEND);
+    assertEquals("Postponed resend was counted", 1, trans.getResendCount());
+  }
+
+  @Test
+  public void testResendAppendsRecord() {
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setNotification(note);
+    trans.setRecords(new TransmissionRecord[] {new TransmissionRecord()});
+    trans.setStatus(TransmissionStatus.FAILED);
+    trans.setResendCount(1);
+    Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong())).thenReturn(1);
+    service.resend(trans);
+    Mockito.verify(dao).appendRecord(Mockito.eq("123"), Mockito.same(trans.getRecords()[1]),
+        Mockito.eq(trans.getStatus()), Mockito.eq(trans.getModified()));
+    Mockito.verify(dao, Mockito.never()).save(Mockito.any(Transmission.class));
+    assertEquals("Resend count was not increased", 2, trans.getResendCount());
+    assertEquals("Record was not appended", 2, trans.getRecords().length);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSendDigest() {
+    Notification other = new Notification();
+    other.setSlug("other");
+    other.setContent("other content");
+    List<Notification> notes = new ArrayList<>();
+    notes.add(note);
+    notes.add(other);
+    Mockito.doReturn(new ResponseEntity<>("ok", HttpStatus.OK)).when(restTemplate).exchange(
+        Mockito.any(URI.class), Mockito.any(HttpMethod.class), Mockito.any(HttpEntity.class),
+        Mockito.eq(String.class));
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    service.sendDigest(notes, channel, TEST_RECV);
+
+    ArgumentCaptor<HttpEntity> request = ArgumentCaptor.forClass(HttpEntity.class);
+    Mockito.verify(restTemplate).exchange(Mockito.any(URI.class), Mockito.any(HttpMethod.class),
+        request.capture(), Mockito.eq(String.class));
+    assertEquals("Digest should be sent as JSON", MediaType.APPLICATION_JSON,
+        request.getValue().getHeaders().getContentType());
+    assertTrue("Digest should be a JSON array",
+        request.getValue().getBody().toString().startsWith("["));
+    ArgumentCaptor<Transmission> captor = ArgumentCaptor.forClass(Transmission.class);
+    Mockito.verify(dao, Mockito.times(2)).insert(captor.capture());
+    assertEquals("Each notification should get its transmission", other,
+        captor.getAllValues().get(1).getNotification());
+    assertEquals("Digest transmission was not sent", TransmissionStatus.SENT,
+        captor.getAllValues().get(1).getStatus());
+  }
+
+  @Test
+  public void testSendCircuitOpen() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Mockito.when(circuitBreakerRegistry.allowRequest(channel.getUrl())).thenReturn(false);
+    Mockito.when(circuitBreakerRegistry.getRetryDelay(channel.getUrl())).thenReturn(30000L);
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(0);
+    Mockito.when(dao.insert(Mockito.any(Transmission.class)))
+        .thenAnswer(invocation -> invocation.getArguments()[0]);
+    long before = System.currentTimeMillis();
+    service.send(note, channel, TEST_RECV);
+    Mockito.verify(restTemplate, Mockito.never()).exchange(Mockito.any(URI.class),
+        Mockito.any(HttpMethod.class), Mockito.any(), Mockito.eq(String.class));
+    ArgumentCaptor<Transmission> captor = ArgumentCaptor.forClass(Transmission.class);
+    Mockito.verify(dao).insert(captor.capture());
+    assertEquals("Short-circuited transmission was not failed", TransmissionStatus.FAILED,
+        captor.getValue().getStatus());
+    assertEquals("Short-circuited delivery was counted", 0, captor.getValue().getResendCount());
+    Mockito.verify(escalation, Mockito.never()).escalate(Mockito.any(Transmission.class));
+    ArgumentCaptor<Long> nextAttempt = ArgumentCaptor.forClass(Long.class);
+    Mockito.verify(resendQueue).schedule(Mockito.anyString(), nextAttempt.capture());
+    assertTrue("Resend was scheduled before the circuit breaker lets a trial through",
+        nextAttempt.getValue() >= before + 30000);
+  }
+
+  @Test
+  public void testResendCircuitOpenNotCounted() {
+    note.setSeverity(NotificationSeverity.CRITICAL);
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setNotification(note);
+    trans.setReceiver(TEST_RECV);
+    trans.setStatus(TransmissionStatus.FAILED);
+    trans.setResendCount(2);
+    Mockito.when(circuitBreakerRegistry.allowRequest(channel.getUrl())).thenReturn(false);
+    Mockito.when(circuitBreakerRegistry.getRetryDelay(channel.getUrl())).thenReturn(30000L);
+    Mockito.when(generalConfig.getResendLimit()).thenReturn(2);
+    service.resend(trans);
+    Mockito.verify(dao, Mockito.never()).appendRecord(Mockito.anyString(),
+        Mockito.any(TransmissionRecord.class), Mockito.any(TransmissionStatus.class),
+        Mockito.anyLong());
+    Mockito.verify(escalation, Mockito.never()).escalate(Mockito.any(Transmission.class));
+    Mockito.verify(resendQueue).schedule(Mockito.eq("123"), Mockito.anyLong());
+    assertEquals("Short-circuited resend was counted", 2, trans.getResendCount());
+  }
+
+  @Test
+  public void testResendOrphanIsDiscarded() {
+    Transmission trans = new Transmission();
+    trans.setId("123");
+    trans.setChannel(channel);
+    trans.setReceiver(TEST_RECV);
+    trans.setStatus(TransmissionStatus.FAILED);
+    service.resend(trans);
+    Mockito.verify(dao).delete("123");
+    Mockito.verify(resendQueue).complete("123");
+    Mockito.verify(dao, Mockito.never()).appendRecord(Mockito.anyString(),
+        Mockito.any(TransmissionRecord.class), Mockito.any(TransmissionStatus.class),
+        Mockito.anyLong());
+    Mockito.verify(escalation, Mockito.never()).escalate(Mockito.any(Transmission.class));
+  }
+
+  @Test
+  public void testSendBadURLRecordsFailure() {
+    channel.setUrl("http://localhost:9999");
+    Mockito.when(dao.insert(Mockito.any(Transmission.class))).thenReturn(new Transmission());
+    service.send(note, channel, TEST_RECV);
+    Mockito.verify(circuitBreakerRegistry).recordFailure("http://localhost:9999");
+  }
+
   @Test(expected = DataValidationException.class)
   public void testSendNotRESTfulChannel() {
     EmailChannel eChannel = new EmailChannel();
@@ -110,7 +368,8 @@ public class RESTfulSendingServiceTest {
    trans.setNotification(note);
    trans.setRecords(new TransmissionRecord[] {});
    trans.setStatus(TransmissionStatus.FAILED);
-   Mockito.when(dao.save(Mockito.any(Transmission.class))).thenReturn(trans);
+   Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong())).thenReturn(1);
     service.resend(trans);
    }
 
@@ -121,7 +380,9 @@ public class RESTfulSendingServiceTest {
     trans.setNotification(note);
     trans.setRecords(new TransmissionRecord[] {});
     trans.setStatus(TransmissionStatus.FAILED);
-    Mockito.when(dao.save(Mockito.any(Transmission.class))).thenThrow(new RuntimeException("test"));
+    Mockito.when(dao.appendRecord(Mockito.anyString(), Mockito.any(TransmissionRecord.class),
+        Mockito.any(TransmissionStatus.class), Mockito.anyLong()))
+        .thenThrow(new RuntimeException("test"));
     service.resend(trans);
   }
 
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.edgexfoundry.support.notifications.config.RateLimitProperties;
+import org.edgexfoundry.support.notifications.config.RateLimitProperties.Limit;
+import org.edgexfoundry.support.notifications.service.RateLimiter.Scope;
+import org.edgexfoundry.support.notifications.service.impl.RateLimiterImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class RateLimiterTest {
+
+  private static final String TEST_SENDER = "device";
+
+  @InjectMocks
+  private RateLimiterImpl limiter;
+
+  @Spy
+  private RateLimitProperties rateLimitProps = new RateLimitProperties();
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    rateLimitProps.setSender(new Limit(1, 2));
+  }
+
+  @Test
+  public void testUnlimitedByDefault() {
+    for (int i = 0; i < 100; i++) {
+      assertEquals("Receiver without a rate limit was limited", 0,
+          limiter.tryAcquire(Scope.SUBSCRIPTION, "receiver"));
+    }
+  }
+
+  @Test
+  public void testBurstThenWait() {
+    assertEquals("First token of the burst was not taken", 0,
+        limiter.tryAcquire(Scope.SENDER, TEST_SENDER));
+    assertEquals("Second token of the burst was not taken", 0,
+        limiter.tryAcquire(Scope.SENDER, TEST_SENDER));
+    long wait = limiter.tryAcquire(Scope.SENDER, TEST_SENDER);
+    assertTrue("Sender over its burst was not limited", wait > 0);
+    assertTrue("Wait is longer than the refill of one token", wait <= 1000);
+  }
+
+  @Test
+  public void testBucketPerSenderIgnoreCase() {
+    limiter.tryAcquire(Scope.SENDER, TEST_SENDER);
+    limiter.tryAcquire(Scope.SENDER, TEST_SENDER);
+    assertTrue("Sender was not limited regardless of case",
+        limiter.tryAcquire(Scope.SENDER, TEST_SENDER.toUpperCase()) > 0);
+    assertEquals("Another sender shared the bucket", 0, limiter.tryAcquire(Scope.SENDER, "other"));
+  }
+
+  @Test
+  public void testLimitOfSingleSender() {
+    rateLimitProps.getSenders().put("Noisy", new Limit(1, 1));
+    rateLimitProps.setSender(new Limit(0, 1));
+    assertEquals("First token was not taken", 0, limiter.tryAcquire(Scope.SENDER, "noisy"));
+    assertTrue("Limit of the single sender was not applied",
+        limiter.tryAcquire(Scope.SENDER, "noisy") > 0);
+    assertEquals("Default limit was not applied to other senders", 0,
+        limiter.tryAcquire(Scope.SENDER, TEST_SENDER));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testEvictKeepsUsedBuckets() {
+    rateLimitProps.setSender(new Limit(0.001, 2));
+    limiter.tryAcquire(Scope.SENDER, TEST_SENDER);
+    limiter.evict();
+    Map<Scope, Map<String, ?>> buckets =
+        (Map<Scope, Map<String, ?>>) ReflectionTestUtils.getField(limiter, "buckets");
+    assertTrue("Bucket which has not refilled was evicted",
+        buckets.get(Scope.SENDER).containsKey(TEST_SENDER));
+  }
+
+}
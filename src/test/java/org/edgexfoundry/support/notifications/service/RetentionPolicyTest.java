@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.edgexfoundry.support.domain.notifications.NotificationStatus;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
+import org.edgexfoundry.support.notifications.config.RetentionProperties;
+import org.edgexfoundry.support.notifications.service.impl.RetentionPolicyImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class RetentionPolicyTest {
+
+  private static final long TEST_MODIFIED = 1000;
+
+  private RetentionPolicyImpl policy;
+
+  private RetentionProperties props;
+
+  @Before
+  public void setup() {
+    props = new RetentionProperties();
+    props.setEnabled(true);
+    props.setSent(10);
+    props.setAcknowledged(20);
+    props.setEscalated(30);
+    props.setProcessed(40);
+    policy = new RetentionPolicyImpl();
+    ReflectionTestUtils.setField(policy, "retentionProps", props);
+  }
+
+  @Test
+  public void testNotificationExpiry() {
+    assertEquals("Processed notification expiry does not match expected", 1040,
+        policy.getExpiry(NotificationStatus.PROCESSED, TEST_MODIFIED).getTime());
+    assertEquals("Escalated notification expiry does not match expected", 1030,
+        policy.getExpiry(NotificationStatus.ESCALATED, TEST_MODIFIED).getTime());
+    assertNull("New notification should not expire",
+        policy.getExpiry(NotificationStatus.NEW, TEST_MODIFIED));
+  }
+
+  @Test
+  public void testTransmissionExpiry() {
+    assertEquals("Sent transmission expiry does not match expected", 1010,
+        policy.getExpiry(TransmissionStatus.SENT, TEST_MODIFIED).getTime());
+    assertEquals("Acknowledged transmission expiry does not match expected", 1020,
+        policy.getExpiry(TransmissionStatus.ACKNOWLEDGED, TEST_MODIFIED).getTime());
+    assertEquals("Escalated transmission expiry does not match expected", 1030,
+        policy.getExpiry(TransmissionStatus.ESCALATED, TEST_MODIFIED).getTime());
+    assertNull("Failed transmission should not expire",
+        policy.getExpiry(TransmissionStatus.FAILED, TEST_MODIFIED));
+  }
+
+  @Test
+  public void testZeroRetentionKeeps() {
+    props.setSent(0);
+    assertNull("Transmission without retention period should not expire",
+        policy.getExpiry(TransmissionStatus.SENT, TEST_MODIFIED));
+  }
+
+  @Test
+  public void testDisabledKeeps() {
+    props.setEnabled(false);
+    assertNull("Nothing should expire when retention mode is disabled",
+        policy.getExpiry(NotificationStatus.PROCESSED, TEST_MODIFIED));
+  }
+
+}
@@ -52,6 +52,9 @@ public class SubscriptionHandlerTest {
   @Mock
   private SubscriptionDAO subscriptionDAO;
 
+  @Mock
+  private SubscriptionIndex subscriptionIndex;
+
   @Before
   public void setup() {
     MockitoAnnotations.initMocks(this);
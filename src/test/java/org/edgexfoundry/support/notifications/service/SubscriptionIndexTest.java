@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Cloud Tsai, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.edgexfoundry.support.domain.notifications.Subscription;
+import org.edgexfoundry.support.notifications.dao.SubscriptionDAO;
+import org.edgexfoundry.support.notifications.service.impl.SubscriptionIndexImpl;
+import org.edgexfoundry.support.notifications.test.data.SubscriptionData;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+@Category(RequiresNone.class)
+public class SubscriptionIndexTest {
+
+  private static final String TEST_ID = "123";
+
+  @InjectMocks
+  private SubscriptionIndexImpl index;
+
+  @Mock
+  private SubscriptionDAO subscriptionDAO;
+
+  private Subscription sub;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    sub = SubscriptionData.newTestInstance();
+    sub.setId(TEST_ID);
+    List<Subscription> subs = new ArrayList<>();
+    subs.add(sub);
+    Mockito.when(subscriptionDAO.findAll()).thenReturn(subs);
+  }
+
+  @Test
+  public void testNotReadyBeforeInit() {
+    assertFalse("Index should not be ready before it is built", index.isReady());
+    assertTrue("Index should not match before it is built",
+        index.findInSubscribedCategoriesOrSubscribedLabels(SubscriptionData.TEST_CAT_STR,
+            SubscriptionData.TEST_LABELS).isEmpty());
+  }
+
+  @Test
+  public void testInitWithDatabaseError() {
+    Mockito.when(subscriptionDAO.findAll()).thenThrow(new RuntimeException("test"));
+    index.init();
+    assertFalse("Index should not be ready when it cannot be built", index.isReady());
+  }
+
+  @Test
+  public void testFindByCategoryIgnoreCase() {
+    index.init();
+    assertTrue("Index should be ready after it is built", index.isReady());
+    List<Subscription> result = index.findInSubscribedCategoriesOrSubscribedLabels(
+        new String[] {"hw_health"}, new String[] {});
+    assertEquals("Index did not match the subscription by category", 1, result.size());
+    assertEquals("Index returned an unexpected subscription", sub, result.get(0));
+  }
+
+  @Test
+  public void testFindByLabelIgnoreCase() {
+    index.init();
+    List<Subscription> result = index.findInSubscribedCategoriesOrSubscribedLabels(
+        new String[] {}, new String[] {"LABEL2", "unknown"});
+    assertEquals("Index did not match the subscription by label", 1, result.size());
+  }
+
+  @Test
+  public void testFindByLabelIgnoreCaseInAnyLocale() {
+    Locale locale = Locale.getDefault();
+    Locale.setDefault(new Locale("tr", "TR"));
+    try {
+      sub.setSubscribedLabels(new String[] {"info"});
+      index.init();
+      assertEquals("Index did not match the label under a Turkish locale", 1, index
+          .findInSubscribedCategoriesOrSubscribedLabels(new String[] {}, new String[] {"INFO"})
+          .size());
+    } finally {
+      Locale.setDefault(locale);
+    }
+  }
+
+  @Test
+  public void testFindMatchedByCategoryAndLabelOnce() {
+    index.init();
+    List<Subscription> result = index.findInSubscribedCategoriesOrSubscribedLabels(
+        SubscriptionData.TEST_CAT_STR, SubscriptionData.TEST_LABELS);
+    assertEquals("Index returned a duplicated subscription", 1, result.size());
+  }
+
+  @Test
+  public void testFindNoMatch() {
+    index.init();
+    assertTrue("Index matched an unexpected subscription",
+        index.findInSubscribedCategoriesOrSubscribedLabels(new String[] {"SECURITY"},
+            new String[] {"foo"}).isEmpty());
+  }
+
+  @Test
+  public void testPutAndRemove() {
+    index.init();
+    Subscription other = SubscriptionData.newTestInstance();
+    other.setId("456");
+    other.setSubscribedLabels(new String[] {"other"});
+    index.put(other);
+    assertEquals("Index did not match the added subscription", 1, index
+        .findInSubscribedCategoriesOrSubscribedLabels(new String[] {}, new String[] {"Other"})
+        .size());
+
+    index.remove(other);
+    assertTrue("Index matched the removed subscription", index
+        .findInSubscribedCategoriesOrSubscribedLabels(new String[] {}, new String[] {"other"})
+        .isEmpty());
+  }
+
+  @Test
+  public void testPutReplacesExistingSubscription() {
+    index.init();
+    Subscription updated = SubscriptionData.newTestInstance();
+    updated.setId(TEST_ID);
+    updated.setSubscribedLabels(new String[] {"changed"});
+    index.put(updated);
+    assertTrue("Index matched a label of the replaced subscription", index
+        .findInSubscribedCategoriesOrSubscribedLabels(new String[] {}, SubscriptionData.TEST_LABELS)
+        .isEmpty());
+  }
+
+}
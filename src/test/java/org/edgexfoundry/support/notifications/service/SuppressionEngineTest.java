@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.notifications.dao.OccurrenceDAO;
+import org.edgexfoundry.support.notifications.domain.Occurrence;
+import org.edgexfoundry.support.notifications.service.impl.SuppressionEngineImpl;
+import org.edgexfoundry.support.notifications.test.data.NotificationData;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class SuppressionEngineTest {
+
+  private static final long WINDOW = 60000;
+  private static final long RETENTION = 3600000;
+
+  @InjectMocks
+  private SuppressionEngineImpl engine;
+
+  @Mock
+  private OccurrenceDAO occurrenceDAO;
+
+  private Notification note;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(engine, "enabled", true);
+    ReflectionTestUtils.setField(engine, "window", WINDOW);
+    ReflectionTestUtils.setField(engine, "retention", RETENTION);
+    note = NotificationData.newTestInstance();
+  }
+
+  @Test
+  public void testFingerprintIgnoresSlugCaseAndLabelOrder() {
+    Notification repeat = NotificationData.newTestInstance();
+    repeat.setSlug("repeat");
+    repeat.setSender(note.getSender().toUpperCase());
+    repeat.setContent("different content");
+    note.setLabels(new String[] {"a", "B"});
+    repeat.setLabels(new String[] {"b", "A"});
+    assertEquals("Repeat did not get the same fingerprint", engine.fingerprint(note),
+        engine.fingerprint(repeat));
+  }
+
+  @Test
+  public void testFingerprintWithContent() {
+    ReflectionTestUtils.setField(engine, "includeContent", true);
+    Notification other = NotificationData.newTestInstance();
+    other.setContent("different content");
+    assertNotEquals("Different content got the same fingerprint", engine.fingerprint(note),
+        engine.fingerprint(other));
+  }
+
+  @Test
+  public void testFingerprintDisabled() {
+    ReflectionTestUtils.setField(engine, "enabled", false);
+    assertNull("Disabled engine returned a fingerprint", engine.fingerprint(note));
+    assertNull("Disabled engine suppressed a notification", engine.suppress("fingerprint", 1));
+    Mockito.verifyZeroInteractions(occurrenceDAO);
+  }
+
+  @Test
+  public void testSuppressWithinWindow() {
+    Occurrence occurrence = new Occurrence("123", "slug", "fingerprint", 2, 0);
+    Mockito.when(occurrenceDAO.addOccurrences(Mockito.eq("fingerprint"), Mockito.anyLong(),
+        Mockito.eq(1), Mockito.anyLong(), Mockito.any(Date.class))).thenReturn(occurrence);
+    long before = System.currentTimeMillis();
+    assertSame("Repeat within the window was not suppressed", occurrence,
+        engine.suppress("fingerprint", 1));
+
+    ArgumentCaptor<Long> since = ArgumentCaptor.forClass(Long.class);
+    ArgumentCaptor<Long> now = ArgumentCaptor.forClass(Long.class);
+    ArgumentCaptor<Date> expireAt = ArgumentCaptor.forClass(Date.class);
+    Mockito.verify(occurrenceDAO).addOccurrences(Mockito.eq("fingerprint"), since.capture(),
+        Mockito.eq(1), now.capture(), expireAt.capture());
+    assertTrue("Occurrence was not counted now", now.getValue() >= before);
+    assertEquals("Window does not end now", WINDOW, now.getValue() - since.getValue());
+    assertEquals("Occurrence does not expire the retention after its window",
+        now.getValue() + WINDOW + RETENTION, expireAt.getValue().getTime());
+  }
+
+  @Test
+  public void testSuppressWithoutRecentNotification() {
+    assertNull("Notification without a recent one was suppressed",
+        engine.suppress("fingerprint", 1));
+  }
+
+  @Test
+  public void testSuppressWithDatabaseError() {
+    Mockito.when(occurrenceDAO.addOccurrences(Mockito.anyString(), Mockito.anyLong(),
+        Mockito.anyInt(), Mockito.anyLong(), Mockito.any(Date.class)))
+        .thenThrow(new RuntimeException("test"));
+    assertNull("Notification was suppressed without the database",
+        engine.suppress("fingerprint", 1));
+  }
+
+  @Test
+  public void testTrack() {
+    note.setId("123");
+    engine.track(note, "fingerprint", 3);
+    ArgumentCaptor<Occurrence> occurrence = ArgumentCaptor.forClass(Occurrence.class);
+    Mockito.verify(occurrenceDAO).insert(occurrence.capture());
+    assertEquals("Occurrence does not refer to the notification", "123",
+        occurrence.getValue().getId());
+    assertEquals("Occurrence was not counted", 3, occurrence.getValue().getCount());
+    assertEquals("Occurrence did not start now", occurrence.getValue().getFirstOccurred(),
+        occurrence.getValue().getLastOccurred());
+    assertEquals("Occurrence does not expire the retention after its window",
+        occurrence.getValue().getLastOccurred() + WINDOW + RETENTION,
+        occurrence.getValue().getExpireAt().getTime());
+  }
+
+  @Test
+  public void testInitExpiresUndatedOccurrences() {
+    long before = System.currentTimeMillis();
+    engine.init();
+    ArgumentCaptor<Date> expireAt = ArgumentCaptor.forClass(Date.class);
+    Mockito.verify(occurrenceDAO).expireUndated(expireAt.capture());
+    assertTrue("Undated occurrences do not expire the retention after now",
+        expireAt.getValue().getTime() >= before + WINDOW + RETENTION);
+  }
+
+  @Test
+  public void testUntrack() {
+    note.setId("123");
+    engine.untrack(note);
+    Mockito.verify(occurrenceDAO).delete("123");
+  }
+
+}
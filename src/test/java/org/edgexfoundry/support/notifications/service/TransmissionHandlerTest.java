@@ -18,14 +18,24 @@
 
 package org.edgexfoundry.support.notifications.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.edgexfoundry.exception.controller.ClientException;
 import org.edgexfoundry.exception.controller.NotFoundException;
 import org.edgexfoundry.support.domain.notifications.Notification;
+import org.edgexfoundry.support.domain.notifications.Transmission;
+import org.edgexfoundry.support.domain.notifications.TransmissionStatus;
 import org.edgexfoundry.support.notifications.test.data.NotificationData;
 import org.edgexfoundry.support.notifications.config.GeneralConfig;
 import org.edgexfoundry.support.notifications.dao.NotificationDAO;
 import org.edgexfoundry.support.notifications.dao.TransmissionDAO;
+import org.edgexfoundry.support.notifications.domain.PageCursor;
+import org.edgexfoundry.support.notifications.domain.ResultPage;
 import org.edgexfoundry.support.notifications.service.impl.TransmissionHandlerImpl;
 import org.edgexfoundry.test.category.RequiresNone;
 import org.junit.Before;
@@ -35,6 +45,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 
 @Category(RequiresNone.class)
 public class TransmissionHandlerTest {
@@ -165,4 +176,68 @@ public class TransmissionHandlerTest {
     handler.deleteOldFailedTransmissions(0);
   }
 
+  @Test
+  public void testFindPageReturnsCursorOfLastItem() {
+    List<Transmission> fetched = new ArrayList<>();
+    for (int i = 3; i > 0; i--) {
+      Transmission transmission = new Transmission();
+      transmission.setId("id" + i);
+      transmission.setCreated(i * 1000L);
+      fetched.add(transmission);
+    }
+    Mockito.when(transmissionDAO.findByCreatedBetweenAfterCursor(0, Long.MAX_VALUE, null, 3))
+        .thenReturn(fetched);
+
+    ResultPage<Transmission> page = handler.findByCreatedDuration(0, Long.MAX_VALUE, null, 2);
+    assertEquals("Page should be trimmed to the limit", 2, page.getItems().size());
+    PageCursor next = PageCursor.decode(page.getNext());
+    assertEquals("Cursor should point at the last item of the page", "id2", next.getId());
+    assertEquals("Cursor should carry the created time of the last item", 2000L,
+        next.getCreated());
+  }
+
+  @Test
+  public void testFindPageResumesAfterCursor() {
+    String cursor = new PageCursor(2000L, "id2").encode();
+    Mockito.when(transmissionDAO.findByCreatedBetweenAfterCursor(Mockito.eq(0L),
+        Mockito.eq(Long.MAX_VALUE), Mockito.any(PageCursor.class), Mockito.eq(3)))
+        .thenReturn(new ArrayList<>());
+
+    ResultPage<Transmission> page = handler.findByCreatedDuration(0, Long.MAX_VALUE, cursor, 2);
+    assertTrue("Page after the last item should be empty", page.getItems().isEmpty());
+    assertNull("Last page should not have a next cursor", page.getNext());
+  }
+
+  @Test(expected = ClientException.class)
+  public void testFindPageWithInvalidCursor() {
+    handler.findByCreatedDuration(0, Long.MAX_VALUE, "not a cursor", 2);
+  }
+
+  @Test
+  public void testFindSummariesByNotificationSlug() {
+    note.setId("123");
+    Mockito.when(notificationDAO.findBySlugIgnoreCase(NotificationData.TEST_SLUG)).thenReturn(note);
+    List<Transmission> summaries = new ArrayList<>();
+    summaries.add(new Transmission());
+    Mockito.when(transmissionDAO.findSummariesByNotificationId(Mockito.eq("123"),
+        Mockito.any(Pageable.class))).thenReturn(summaries);
+
+    List<Transmission> result =
+        handler.findSummariesByNotificationSlug(NotificationData.TEST_SLUG, MAX_LIMIT);
+    assertEquals("Summary should keep the notification id", "123",
+        result.get(0).getNotification().getId());
+    assertNull("Summary should not carry the notification content",
+        result.get(0).getNotification().getContent());
+  }
+
+  @Test
+  public void testFindFailedTransmissionSummaries() {
+    List<Transmission> summaries = new ArrayList<>();
+    Mockito.when(transmissionDAO.findSummariesByStatus(Mockito.eq(TransmissionStatus.FAILED),
+        Mockito.any(Pageable.class))).thenReturn(summaries);
+    assertTrue("Should not return any Transmissions",
+        handler.findFailedTransmissionSummaries(MAX_LIMIT).isEmpty());
+    Mockito.verify(transmissionDAO).attachNotificationSummaries(summaries);
+  }
+
 }
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2016-2017 Dell Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * @microservice: support-notifications
+ * @author: Jim White, Dell
+ * @version: 1.0.0
+ *******************************************************************************/
+
+package org.edgexfoundry.support.notifications.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Date;
+
+import org.edgexfoundry.support.notifications.service.WorkSignal.Work;
+import org.edgexfoundry.support.notifications.service.impl.WorkSignalImpl;
+import org.edgexfoundry.test.category.RequiresNone;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Category(RequiresNone.class)
+public class WorkSignalTest {
+
+  private static final long DEBOUNCE = 1000;
+
+  @InjectMocks
+  private WorkSignalImpl signal;
+
+  @Mock
+  private ThreadPoolTaskScheduler scheduler;
+
+  @Mock
+  private Runnable listener;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ReflectionTestUtils.setField(signal, "distributionDebounce", DEBOUNCE);
+    ReflectionTestUtils.setField(signal, "resendDebounce", DEBOUNCE);
+  }
+
+  @Test
+  public void testRunWithoutSignal() {
+    long token = signal.begin(Work.NORMAL_DISTRIBUTION);
+    assertNotEquals("First run should pick up the work left in the database", WorkSignal.NONE,
+        token);
+    signal.finish(Work.NORMAL_DISTRIBUTION, token);
+    assertNotEquals("A run without a signal should still scan", WorkSignal.NONE,
+        signal.begin(Work.NORMAL_DISTRIBUTION));
+  }
+
+  @Test
+  public void testSignalWakesItsWorkOnly() {
+    Runnable other = Mockito.mock(Runnable.class);
+    signal.register(Work.NORMAL_DISTRIBUTION, other);
+    signal.register(Work.NORMAL_RESEND, listener);
+    signal.signal(Work.NORMAL_RESEND);
+    ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(scheduler).schedule(wakeUp.capture(), Mockito.any(Date.class));
+    wakeUp.getValue().run();
+    Mockito.verify(listener).run();
+    Mockito.verify(other, Mockito.never()).run();
+  }
+
+  @Test
+  public void testOneRunAtATime() {
+    long token = signal.begin(Work.NORMAL_DISTRIBUTION);
+    assertEquals("A second concurrent run should not start", WorkSignal.NONE,
+        signal.begin(Work.NORMAL_DISTRIBUTION));
+    signal.finish(Work.NORMAL_DISTRIBUTION, token);
+  }
+
+  @Test
+  public void testFailedRunLeavesWorkPending() {
+    signal.begin(Work.NORMAL_DISTRIBUTION);
+    signal.finish(Work.NORMAL_DISTRIBUTION, WorkSignal.NONE);
+    assertNotEquals("Work of a failed run should still be due", WorkSignal.NONE,
+        signal.begin(Work.NORMAL_DISTRIBUTION));
+  }
+
+  @Test
+  public void testSignalsAreDebounced() {
+    signal.register(Work.NORMAL_DISTRIBUTION, listener);
+    signal.signal(Work.NORMAL_DISTRIBUTION);
+    signal.signal(Work.NORMAL_DISTRIBUTION);
+    ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(scheduler).schedule(wakeUp.capture(), Mockito.any(Date.class));
+
+    wakeUp.getValue().run();
+    Mockito.verify(listener).run();
+    signal.signal(Work.NORMAL_DISTRIBUTION);
+    Mockito.verify(scheduler, Mockito.times(2)).schedule(Mockito.any(Runnable.class),
+        Mockito.any(Date.class));
+  }
+
+  @Test
+  public void testSignalDuringRunWakesAgain() {
+    signal.register(Work.NORMAL_RESEND, listener);
+    long token = signal.begin(Work.NORMAL_RESEND);
+    signal.signal(Work.NORMAL_RESEND);
+    ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.verify(scheduler).schedule(wakeUp.capture(), Mockito.any(Date.class));
+    wakeUp.getValue().run();
+
+    signal.finish(Work.NORMAL_RESEND, token);
+    Mockito.verify(scheduler, Mockito.times(2)).schedule(Mockito.any(Runnable.class),
+        Mockito.any(Date.class));
+  }
+
+}
@@ -18,23 +18,39 @@
 
 package org.edgexfoundry.support.notifications.suites;
 
+import org.edgexfoundry.support.notifications.controller.CircuitBreakerControllerTest;
 import org.edgexfoundry.support.notifications.controller.CleanupControllerTest;
+import org.edgexfoundry.support.notifications.controller.ExecutorControllerTest;
+import org.edgexfoundry.support.notifications.controller.IndexControllerTest;
 import org.edgexfoundry.support.notifications.controller.LocalErrorControllerTest;
 import org.edgexfoundry.support.notifications.controller.NotificationsControllerTest;
 import org.edgexfoundry.support.notifications.controller.PingControllerTest;
 import org.edgexfoundry.support.notifications.controller.integration.SubscriptionControllerTest;
 import org.edgexfoundry.support.notifications.controller.integration.TransmissionControllerTest;
+import org.edgexfoundry.support.notifications.dao.NormalizedFieldsTest;
+import org.edgexfoundry.support.notifications.dao.TransmissionDocumentTest;
+import org.edgexfoundry.support.notifications.service.AdaptiveTriggerTest;
+import org.edgexfoundry.support.notifications.service.BackoffPolicyTest;
+import org.edgexfoundry.support.notifications.service.CircuitBreakerRegistryTest;
 import org.edgexfoundry.support.notifications.service.CleanupServiceTest;
-import org.edgexfoundry.support.notifications.service.CriticalSeverityResendTaskTest;
+import org.edgexfoundry.support.notifications.service.CriticalSeverityResendExecutorTest;
 import org.edgexfoundry.support.notifications.service.DistributionCoordinatorTest;
 import org.edgexfoundry.support.notifications.service.EMAILSendingServiceTest;
 import org.edgexfoundry.support.notifications.service.EscalationServiceTest;
+import org.edgexfoundry.support.notifications.service.ExportServiceTest;
+import org.edgexfoundry.support.notifications.service.IndexManagerTest;
+import org.edgexfoundry.support.notifications.service.MailDeliveryServiceTest;
 import org.edgexfoundry.support.notifications.service.NormalSeverityDistributionExecutorTest;
 import org.edgexfoundry.support.notifications.service.NormalSeverityResendExecutorTest;
 import org.edgexfoundry.support.notifications.service.NotificationHandlerTest;
 import org.edgexfoundry.support.notifications.service.RESTfulSendingServiceTest;
+import org.edgexfoundry.support.notifications.service.RateLimiterTest;
+import org.edgexfoundry.support.notifications.service.RetentionPolicyTest;
 import org.edgexfoundry.support.notifications.service.SubscriptionHandlerTest;
+import org.edgexfoundry.support.notifications.service.SubscriptionIndexTest;
+import org.edgexfoundry.support.notifications.service.SuppressionEngineTest;
 import org.edgexfoundry.support.notifications.service.TransmissionHandlerTest;
+import org.edgexfoundry.support.notifications.service.WorkSignalTest;
 import org.junit.Ignore;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -48,14 +64,20 @@ import org.junit.runners.Suite;
  */
 @Ignore
 @RunWith(Suite.class)
-@Suite.SuiteClasses({CleanupControllerTest.class, LocalErrorControllerTest.class,
+@Suite.SuiteClasses({CircuitBreakerControllerTest.class, CleanupControllerTest.class,
+    ExecutorControllerTest.class, IndexControllerTest.class, LocalErrorControllerTest.class,
     NotificationsControllerTest.class, PingControllerTest.class, SubscriptionControllerTest.class,
-    TransmissionControllerTest.class, CleanupServiceTest.class,
-    CriticalSeverityResendTaskTest.class, DistributionCoordinatorTest.class,
-    EMAILSendingServiceTest.class, EscalationServiceTest.class,
+    TransmissionControllerTest.class, NormalizedFieldsTest.class,
+    TransmissionDocumentTest.class, AdaptiveTriggerTest.class,
+    BackoffPolicyTest.class,
+    CircuitBreakerRegistryTest.class, CleanupServiceTest.class,
+    CriticalSeverityResendExecutorTest.class, DistributionCoordinatorTest.class,
+    EMAILSendingServiceTest.class, EscalationServiceTest.class, ExportServiceTest.class,
+    IndexManagerTest.class, MailDeliveryServiceTest.class,
     NormalSeverityDistributionExecutorTest.class, NormalSeverityResendExecutorTest.class,
-    NotificationHandlerTest.class, RESTfulSendingServiceTest.class, SubscriptionHandlerTest.class,
-    TransmissionHandlerTest.class
+    NotificationHandlerTest.class, RESTfulSendingServiceTest.class, RateLimiterTest.class,
+    RetentionPolicyTest.class, SubscriptionHandlerTest.class, SubscriptionIndexTest.class,
+    SuppressionEngineTest.class, TransmissionHandlerTest.class, WorkSignalTest.class
 
 })
 public class UnitTestSuite {